@@ -0,0 +1,385 @@
+import java.security.InvalidParameterException;
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a thread-safe, optionally bounded {@link BlockingQueue} backed by a {@link Queue}.
+ * <p>
+ * Every operation runs under one ReentrantLock. A consumer that finds the queue empty waits on a not-empty Condition,
+ * and a producer that finds it full waits on a not-full Condition. Both waits park the thread through LockSupport
+ * rather than holding a monitor, so a waiting thread costs no CPU and never blocks in a synchronized block. Elements
+ * may not be null, since poll() returns null to mean the queue is empty.
+ * <p>
+ * Iterators work on a snapshot taken when the iterator is created and do not support removal.
+ *
+ * @param <T> Specifies the element type of the BlockingQueueAdapter.
+ */
+public class BlockingQueueAdapter<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+    private final Queue<T> queue;
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Initializes a new instance of an empty, unbounded BlockingQueueAdapter.
+     *
+     * @param itemType The class-type of the items the BlockingQueueAdapter will store.
+     */
+    public BlockingQueueAdapter(Class<T> itemType) {
+        this(new Queue<>(itemType), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Initializes a new instance of an empty BlockingQueueAdapter that holds at most the given number of elements.
+     *
+     * @param itemType The class-type of the items the BlockingQueueAdapter will store.
+     * @param capacity The maximum number of elements the BlockingQueueAdapter can hold.
+     */
+    public BlockingQueueAdapter(Class<T> itemType, int capacity) {
+        this(new Queue<>(itemType), capacity);
+    }
+
+    /**
+     * Initializes a new instance of the BlockingQueueAdapter over an existing Queue. The Queue must not be used
+     * directly afterwards, since it is only guarded when it is accessed through the adapter.
+     *
+     * @param queue    The Queue to store elements in; may already hold elements.
+     * @param capacity The maximum number of elements the BlockingQueueAdapter can hold.
+     */
+    public BlockingQueueAdapter(Queue<T> queue, int capacity) {
+        if (queue == null) {
+            throw new NullPointerException("The queue cannot be null.");
+        }
+        if (capacity <= 0) {
+            throw new InvalidParameterException("The capacity of the BlockingQueueAdapter must be a positive non-zero number.");
+        }
+
+        this.queue = queue;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds an item at the tail of the queue, waiting for room if the queue is full.
+     *
+     * @param item The item to add; cannot be null.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public void put(T item) throws InterruptedException {
+        checkNotNull(item);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() >= capacity) {
+                notFull.await();
+            }
+            enqueue(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an item at the tail of the queue if there is room for it.
+     *
+     * @param item The item to add; cannot be null.
+     * @return True if the item was added; false if the queue is full.
+     */
+    @Override
+    public boolean offer(T item) {
+        checkNotNull(item);
+        lock.lock();
+        try {
+            if (queue.size() >= capacity) return false;
+
+            enqueue(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an item at the tail of the queue, waiting up to the given time for room if the queue is full.
+     *
+     * @param item    The item to add; cannot be null.
+     * @param timeout How long to wait before giving up, in units of unit.
+     * @param unit    The unit of the timeout.
+     * @return True if the item was added; false if the wait timed out.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(item);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.size() >= capacity) {
+                if (nanos <= 0) return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the item at the head of the queue, waiting for one if the queue is empty.
+     *
+     * @return The removed item.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the item at the head of the queue if there is one.
+     *
+     * @return The removed item, or null if the queue is empty.
+     */
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return queue.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the item at the head of the queue, waiting up to the given time for one if the queue is empty.
+     *
+     * @param timeout How long to wait before giving up, in units of unit.
+     * @param unit    The unit of the timeout.
+     * @return The removed item, or null if the wait timed out.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Gets the item at the head of the queue without removing it, or null if the queue is empty.
+     */
+    @Override
+    public T peek() {
+        lock.lock();
+        try {
+            return queue.isEmpty() ? null : queue.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Gets the number of elements in the BlockingQueueAdapter.
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Gets the number of elements that can be added without waiting, or Integer.MAX_VALUE if unbounded.
+     */
+    @Override
+    public int remainingCapacity() {
+        if (capacity == Integer.MAX_VALUE) return Integer.MAX_VALUE;
+
+        lock.lock();
+        try {
+            return capacity - queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) return false;
+
+        lock.lock();
+        try {
+            return queue.contains((T) o);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the given element by rotating the whole queue once.
+     *
+     * @param o The element to remove.
+     * @return True if an element was removed.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) return false;
+
+        lock.lock();
+        try {
+            boolean removed = false;
+            for (int i = queue.size(); i > 0; i--) {
+                T item = queue.dequeue();
+                if (!removed && o.equals(item)) {
+                    removed = true;
+                } else {
+                    queue.enqueue(item);
+                }
+            }
+            if (removed) {
+                notFull.signal();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            queue.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        lock.lock();
+        try {
+            T[] items = queue.toArray();
+            return Arrays.copyOf(items, items.length, Object[].class);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException("The collection to drain to cannot be null.");
+        }
+        if (c == this) {
+            throw new IllegalArgumentException("The BlockingQueueAdapter cannot be drained into itself.");
+        }
+
+        lock.lock();
+        try {
+            int drained = queue.drainTo(c::add, maxElements);
+            if (drained > 0) {
+                notFull.signalAll();
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements taken when this method is called. The iterator does not
+     * support removal.
+     *
+     * @return an iterator over the elements in this queue
+     */
+    @Override
+    public Iterator<T> iterator() {
+        lock.lock();
+        try {
+            return new BlockingQueueAdapterIterator(queue.toArray());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkNotNull(T item) {
+        if (item == null) {
+            throw new NullPointerException("The BlockingQueueAdapter does not permit null elements.");
+        }
+    }
+
+    /**
+     * Adds an item and wakes one waiting consumer. The caller must hold the lock.
+     */
+    private void enqueue(T item) {
+        queue.enqueue(item);
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes an item and wakes one waiting producer. The caller must hold the lock.
+     */
+    private T dequeue() {
+        T item = queue.dequeue();
+        notFull.signal();
+        return item;
+    }
+
+    /**
+     * Represents an Iterator over a snapshot array of a BlockingQueueAdapter.
+     */
+    private class BlockingQueueAdapterIterator implements Iterator<T> {
+        private final T[] items;
+        private int index;
+
+        BlockingQueueAdapterIterator(T[] items) {
+            this.items = items;
+        }
+
+        public boolean hasNext() {
+            return index < items.length;
+        }
+
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items[index++];
+        }
+    }
+}
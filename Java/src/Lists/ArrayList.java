@@ -3,6 +3,8 @@ package Lists;
 import java.lang.reflect.Array;
 import java.security.InvalidParameterException;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static java.lang.String.format;
 
@@ -17,9 +19,16 @@ public class ArrayList<T> implements List<T> {
      */
     public final int InitCapacity = 4;
 
+    /**
+     * The size above which removeAll and retainAll copy their argument into a HashSet before probing it.
+     */
+    private static final int HashLookupThreshold = 16;
+
     private Class<T> nodeClassType;
     private int arrayTail = -1;
     private T[] backingArray;
+    private int modCount = 0;
+    private GrowthPolicy growthPolicy;
 
     /**
      * Initializes a new instance of a ArrayList that contains elements copied from the specified collection.
@@ -29,6 +38,7 @@ public class ArrayList<T> implements List<T> {
     public ArrayList(Class<T> itemType) {
         backingArray = (T[]) Array.newInstance(itemType, InitCapacity);
         nodeClassType = itemType;
+        growthPolicy = GrowthPolicy.doubling();
         arrayTail = -1;
     }
 
@@ -43,14 +53,25 @@ public class ArrayList<T> implements List<T> {
             throw new InvalidParameterException("The capacity of the ArrayList must be initialized as a positive non-zero number.");
         }
 
-        backingArray = (T[]) Array.newInstance(itemType, InitCapacity);
+        backingArray = (T[]) Array.newInstance(itemType, capacity);
         nodeClassType = itemType;
+        growthPolicy = GrowthPolicy.doubling();
         arrayTail = -1;
     }
 
-    private ArrayList(T[] backing, int tail) {
-        backingArray = backing;
-        arrayTail = tail;
+    /**
+     * Initializes a new instance of a ArrayList that is empty and resizes its backing array with the given policy.
+     *
+     * @param itemType     The class-type of the items the ArrayList will store.
+     * @param capacity     The initial number of elements that the ArrayList can contain.
+     * @param growthPolicy The policy deciding how the backing array grows and whether it shrinks.
+     */
+    public ArrayList(Class<T> itemType, int capacity, GrowthPolicy growthPolicy) {
+        this(itemType, capacity);
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+        this.growthPolicy = growthPolicy;
     }
 
     /**
@@ -119,7 +140,19 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return Arrays.stream(backingArray).iterator();
+        return new ArrayListForwardIterator(0);
+    }
+
+    /**
+     * Creates a late-binding, fail-fast {@link Spliterator} over the elements in this list. The spliterator reports
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, and splits by halving
+     * its index range so parallel streams divide the work evenly.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
     }
 
     /**
@@ -299,10 +332,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean addAll(Collection<? extends T> c) {
-        for (T item : c) {
-            add(item);
-        }
-        return true;
+        return addAll(size(), c);
     }
 
     /**
@@ -334,12 +364,19 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
-        T[] itemArr = (T[]) Array.newInstance(nodeClassType, c.size());
-        itemArr = c.toArray(itemArr);
-
-        for (T item : itemArr) {
-            add(item);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the ArrayList.", index));
         }
+
+        Object[] itemArr = c.toArray();
+        int itemCount = itemArr.length;
+        if (itemCount == 0) return false;
+
+        ensureCapacity(size() + itemCount);
+        System.arraycopy(backingArray, index, backingArray, index + itemCount, size() - index);
+        System.arraycopy(itemArr, 0, backingArray, index, itemCount);
+        arrayTail += itemCount;
+        modCount++;
         return true;
     }
 
@@ -363,13 +400,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean removeAll(Collection<?> c) {
-        boolean changed = false;
-        for(Object item : c) {
-            if(remove(item)) {
-                changed = true;
-            }
-        }
-        return changed;
+        return batchRemove(c, false);
     }
 
     /**
@@ -394,14 +425,38 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean retainAll(Collection<?> c) {
-        boolean changed = false;
-        for(int i = arrayTail; i >= 0; i--) {
-            if (!c.contains(backingArray[i])) {
-                changed = true;
-                remove(i);
+        return batchRemove(c, true);
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given
+     * predicate.  Errors or runtime exceptions thrown during iteration or by
+     * the predicate are relayed to the caller.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be
+     *               removed
+     * @return {@code true} if any elements were removed
+     * @throws NullPointerException if the specified filter is null
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        int readIndex = 0;
+        int writeIndex = 0;
+        try {
+            for (; readIndex < size(); readIndex++) {
+                T item = backingArray[readIndex];
+                if (!filter.test(item)) {
+                    backingArray[writeIndex++] = item;
+                }
             }
+        } finally {
+            compact(readIndex, writeIndex);
         }
-        return changed;
+        return writeIndex != readIndex;
     }
 
     /**
@@ -413,7 +468,10 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void clear() {
+        Arrays.fill(backingArray, 0, size(), null);
         arrayTail = -1;
+        modCount++;
+        shrinkIfNeeded();
     }
 
     /**
@@ -504,8 +562,11 @@ public class ArrayList<T> implements List<T> {
         }
 
         T removeValue = backingArray[index];
-        System.arraycopy(backingArray, index + 1, backingArray, index, size() - index);
+        System.arraycopy(backingArray, index + 1, backingArray, index, arrayTail - index);
+        backingArray[arrayTail] = null;
         arrayTail--;
+        modCount++;
+        shrinkIfNeeded();
 
         return removeValue;
     }
@@ -581,7 +642,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public ListIterator<T> listIterator() {
-        return new ArrayListIterator<>(this);
+        return new ArrayListListIterator(0);
     }
 
     /**
@@ -601,7 +662,10 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public ListIterator<T> listIterator(int index) {
-        return new ArrayListIterator<>((ArrayList<T>) subList(0, size() - 1));
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the ArrayList.", index));
+        }
+        return new ArrayListListIterator(index);
     }
 
     /**
@@ -640,28 +704,408 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
+        checkSubListRange(fromIndex, toIndex, size());
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Removes the elements in the range [fromIndex, toIndex) with a single compacting copy and clears the freed
+     * slots at the end of the backing array.
+     */
+    private void removeRange(int fromIndex, int toIndex) {
+        int removedCount = toIndex - fromIndex;
+        if (removedCount == 0) return;
+
+        System.arraycopy(backingArray, toIndex, backingArray, fromIndex, size() - toIndex);
+        Arrays.fill(backingArray, size() - removedCount, size(), null);
+        arrayTail -= removedCount;
+        modCount++;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Removes the elements contained (or, if retain is true, not contained) in the given collection in a single
+     * pass, shifting the survivors down once. Large collections that are not already sets are copied into a
+     * HashSet first so each probe is O(1) instead of a linear scan.
+     */
+    private boolean batchRemove(Collection<?> c, boolean retain) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Collection<?> lookup = c;
+        if (!(c instanceof Set) && c.size() > HashLookupThreshold) {
+            lookup = new HashSet<>(c);
+        }
+
+        int readIndex = 0;
+        int writeIndex = 0;
+        try {
+            for (; readIndex < size(); readIndex++) {
+                T item = backingArray[readIndex];
+                if (lookup.contains(item) == retain) {
+                    backingArray[writeIndex++] = item;
+                }
+            }
+        } finally {
+            compact(readIndex, writeIndex);
+        }
+        return writeIndex != readIndex;
+    }
+
+    /**
+     * Finishes an in-place compaction: keeps any elements that were not yet visited, clears the freed slots at the
+     * end of the backing array so they can be garbage-collected and updates the size.
+     */
+    private void compact(int readIndex, int writeIndex) {
+        if (readIndex < size()) {
+            System.arraycopy(backingArray, readIndex, backingArray, writeIndex, size() - readIndex);
+            writeIndex += size() - readIndex;
+        }
+        if (writeIndex == size()) return;
+
+        Arrays.fill(backingArray, writeIndex, size(), null);
+        arrayTail = writeIndex - 1;
+        modCount++;
+        shrinkIfNeeded();
+    }
+
+    private static void checkSubListRange(int fromIndex, int toIndex, int size) {
         if (fromIndex < 0) {
-            throw new IndexOutOfBoundsException(format("The from-index, {0}, is out of the bounds of the LinkedList.", fromIndex));
-        } else if (toIndex >= size()) {
-            throw new IndexOutOfBoundsException(format("The to-index, {0}, is out of the bounds of the LinkedList.", toIndex));
-        } else if (fromIndex >= toIndex) {
-            throw new IndexOutOfBoundsException(format("The from-index, {0}, must come before the to-index, {1}.", fromIndex, toIndex));
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the ArrayList.", fromIndex));
+        } else if (toIndex > size) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the ArrayList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
         }
+    }
 
-        T[] subArray = (T[]) Array.newInstance(nodeClassType, toIndex - fromIndex);
-        System.arraycopy(backingArray, fromIndex, subArray, 0, subArray.length);
-        return new ArrayList<T>(subArray, subArray.length - 1);
+    /**
+     * Increases the capacity of the ArrayList, if necessary, so that it can hold at least the specified number of
+     * elements without resizing again.
+     *
+     * @param minCapacity The minimum number of elements the ArrayList must be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= backingArray.length) return;
+
+        setCapacity(growthPolicy.grow(backingArray.length, minCapacity));
     }
 
     /**
-     * Checks if the ArrayList needs to be resized. If resized, it doubles the size of the backing array.
+     * Shrinks the capacity of the ArrayList to its current size, releasing any unused slots of the backing array.
+     */
+    public void trimToSize() {
+        if (size() == backingArray.length) return;
+
+        setCapacity(size());
+    }
+
+    /**
+     * Asks the growth policy whether the backing array should shrink after a removal and, if so, reallocates it once
+     * at the final capacity.
+     */
+    private void shrinkIfNeeded() {
+        int newCapacity = backingArray.length;
+        for (int nextCapacity; (nextCapacity = growthPolicy.shrink(newCapacity, size())) < newCapacity; ) {
+            newCapacity = nextCapacity;
+        }
+
+        if (newCapacity < backingArray.length) {
+            setCapacity(newCapacity);
+        }
+    }
+
+    private void setCapacity(int newCapacity) {
+        T[] newBackingArray = (T[]) Array.newInstance(nodeClassType, newCapacity);
+        System.arraycopy(backingArray, 0, newBackingArray, 0, size());
+        backingArray = newBackingArray;
+    }
+
+    /**
+     * Checks if the ArrayList needs to be resized. If resized, it grows the backing array as the growth policy dictates.
      */
     private void resize() {
+        ensureCapacity(size() + 1);
         arrayTail++;
-        if (arrayTail < backingArray.length) return;
+        modCount++;
+    }
 
-        T[] newBackingArray = (T[]) Array.newInstance(nodeClassType, backingArray.length * 2);
-        System.arraycopy(backingArray, 0, newBackingArray, 0, backingArray.length);
-        backingArray = newBackingArray;
+    /**
+     * Represents a live view of a range of an ArrayList. The view reads and writes straight through to the backing
+     * array of the parent list, so creating one is O(1) and no elements are copied. ArrayList keeps this view instead
+     * of the shared {@link SubListView} because it can address the backing array directly: reads skip the parent's
+     * bounds checks and clearing a range is one compacting arraycopy rather than one removal per element.
+     */
+    private class SubList extends AbstractList<T> {
+        private final SubList parentView;
+        private final int offset;
+        private int length;
+        private int expectedModCount;
+
+        SubList(SubList parentView, int offset, int length) {
+            this.parentView = parentView;
+            this.offset = offset;
+            this.length = length;
+            expectedModCount = ArrayList.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return length;
+        }
+
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            checkIndex(index, length);
+            return backingArray[offset + index];
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkForComodification();
+            checkIndex(index, length);
+            T prevValue = backingArray[offset + index];
+            backingArray[offset + index] = element;
+            return prevValue;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkForComodification();
+            checkIndex(index, length + 1);
+            ArrayList.this.add(offset + index, element);
+            updateLength(1);
+        }
+
+        @Override
+        public T remove(int index) {
+            checkForComodification();
+            checkIndex(index, length);
+            T removeValue = ArrayList.this.remove(offset + index);
+            updateLength(-1);
+            return removeValue;
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, length);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            ArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateLength(fromIndex - toIndex);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(backingArray[offset + i], o)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public List<T> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkSubListRange(fromIndex, toIndex, length);
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void updateLength(int delta) {
+            for (SubList view = this; view != null; view = view.parentView) {
+                view.length += delta;
+                view.expectedModCount = ArrayList.this.modCount;
+            }
+        }
+
+        private void checkForComodification() {
+            if (ArrayList.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void checkIndex(int index, int bound) {
+            if (index < 0 || index >= bound) {
+                throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the sub-list.", index));
+            }
+        }
+    }
+
+    /**
+     * Represents a fail-fast Iterator that walks the live elements of the ArrayList by index. It holds no references
+     * besides the list itself so short-lived instances in tight loops can be scalar-replaced by the JIT.
+     */
+    private class ArrayListForwardIterator implements Iterator<T> {
+        int cursor;
+        int lastReturned = -1;
+        int expectedModCount = modCount;
+
+        ArrayListForwardIterator(int startIndex) {
+            cursor = startIndex;
+        }
+
+        public boolean hasNext() {
+            return cursor <= arrayTail;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (cursor > arrayTail) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return backingArray[lastReturned];
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Represents a fail-fast ListIterator over the ArrayList, adding backward traversal, set and add to the forward
+     * iterator.
+     */
+    private class ArrayListListIterator extends ArrayListForwardIterator implements ListIterator<T> {
+        ArrayListListIterator(int startIndex) {
+            super(startIndex);
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --cursor;
+            return backingArray[lastReturned];
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        public void set(T t) {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            ArrayList.this.set(lastReturned, t);
+        }
+
+        public void add(T t) {
+            checkForComodification();
+
+            ArrayList.this.add(cursor++, t);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Represents a Spliterator over a range of the backing array of the ArrayList. The end of the range is bound on
+     * first use, so modifications made before traversal starts are still seen.
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size();
+            }
+            return fence;
+        }
+
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int mid = (index + hi) >>> 1;
+            if (index >= mid) return null;
+
+            ArrayListSpliterator prefix = new ArrayListSpliterator(index, mid, expectedModCount);
+            index = mid;
+            return prefix;
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            if (index >= hi) return false;
+
+            T item = backingArray[index++];
+            action.accept(item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            T[] items = backingArray;
+            for (int i = index; i < hi; i++) {
+                action.accept(items[i]);
+            }
+            index = hi;
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
-}
\ No newline at end of file
+}
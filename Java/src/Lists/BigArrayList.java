@@ -0,0 +1,702 @@
+package Lists;
+
+import java.lang.reflect.Array;
+import java.security.InvalidParameterException;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
+/**
+ * Implements the IList interface using fixed-size chunks of elements held in a directory. Appending allocates a new
+ * chunk when the last one is full and never copies the existing chunks, so the list grows without the copy stalls and
+ * temporary memory peaks of a single doubling array. Elements are addressed by long indices, letting the list hold
+ * more than <tt>Integer.MAX_VALUE</tt> elements; the int-based {@link List} methods work on the first
+ * <tt>Integer.MAX_VALUE</tt> of them and {@link #size()} saturates, as the List contract specifies.
+ *
+ * @param <T> Specifies the element type of the BigArrayList.
+ */
+public class BigArrayList<T> implements List<T> {
+
+    /**
+     * The number of index bits addressing an element within a chunk if none is given in the constructor of the class.
+     * Chunks hold 2^DefaultChunkBits elements.
+     */
+    public static final int DefaultChunkBits = 14;
+
+    /**
+     * The initial number of chunk slots in the directory.
+     */
+    public final int InitDirectoryCapacity = 4;
+
+    private Class<T> nodeClassType;
+    private int chunkBits;
+    private int chunkSize;
+    private long chunkMask;
+    private T[][] chunks;
+    private long count = 0;
+    private int modCount = 0;
+
+    /**
+     * Initializes a new instance of a BigArrayList that is empty and uses the default chunk size.
+     *
+     * @param itemType The class-type of the items the BigArrayList will store.
+     */
+    public BigArrayList(Class<T> itemType) {
+        this(itemType, DefaultChunkBits, 0);
+    }
+
+    /**
+     * Initializes a new instance of a BigArrayList that is empty, uses the default chunk size and has enough chunks
+     * allocated up front to hold the specified number of elements.
+     *
+     * @param itemType The class-type of the items the BigArrayList will store.
+     * @param capacity The initial number of elements that the BigArrayList can contain.
+     */
+    public BigArrayList(Class<T> itemType, int capacity) {
+        this(itemType, DefaultChunkBits, capacity);
+    }
+
+    private BigArrayList(Class<T> itemType, int chunkBits, int capacity) {
+        if (chunkBits < 1 || chunkBits > 30) {
+            throw new InvalidParameterException("The chunk bits of the BigArrayList must be between 1 and 30.");
+        }
+        if (capacity < 0) {
+            throw new InvalidParameterException("The capacity of the BigArrayList must be initialized as a positive number.");
+        }
+
+        nodeClassType = itemType;
+        this.chunkBits = chunkBits;
+        chunkSize = 1 << chunkBits;
+        chunkMask = chunkSize - 1;
+
+        int initialChunks = (int) ((capacity + chunkMask) >>> chunkBits);
+        chunks = newDirectory(Math.max(InitDirectoryCapacity, initialChunks));
+        for (int c = 0; c < initialChunks; c++) {
+            chunks[c] = (T[]) Array.newInstance(nodeClassType, chunkSize);
+        }
+    }
+
+    /**
+     * Creates a new instance of a BigArrayList that is empty and uses chunks of 2^chunkBits elements. This is a
+     * factory rather than a constructor so that (Class, int) means the initial capacity, as it does for
+     * {@link ArrayList}.
+     *
+     * @param itemType  The class-type of the items the BigArrayList will store.
+     * @param chunkBits The number of index bits addressing an element within a chunk, between 1 and 30.
+     * @param <T>       Specifies the element type of the BigArrayList.
+     * @return A new, empty BigArrayList.
+     */
+    public static <T> BigArrayList<T> withChunkBits(Class<T> itemType, int chunkBits) {
+        return new BigArrayList<>(itemType, chunkBits, 0);
+    }
+
+    /**
+     * @return Gets the number of elements in the BigArrayList as a long.
+     */
+    public long longSize() {
+        return count;
+    }
+
+    /**
+     * @return Gets the number of elements each chunk of the BigArrayList holds.
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the number of elements the BigArrayList can hold before allocating another chunk.
+     * @return the capacity of the allocated chunks.
+     */
+    public long capacity() {
+        long allocated = 0;
+        for (T[] chunk : chunks) {
+            if (chunk != null) {
+                allocated += chunkSize;
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Returns the number of elements in this list. If this list contains more than <tt>Integer.MAX_VALUE</tt>
+     * elements, returns <tt>Integer.MAX_VALUE</tt>; use {@link #longSize()} for the exact count.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt;= longSize()</tt>)
+     */
+    public T get(long index) {
+        checkIndex(index);
+        return chunks[(int) (index >>> chunkBits)][(int) (index & chunkMask)];
+    }
+
+    @Override
+    public T get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt;= longSize()</tt>)
+     */
+    public T set(long index, T element) {
+        checkIndex(index);
+
+        T[] chunk = chunks[(int) (index >>> chunkBits)];
+        int offset = (int) (index & chunkMask);
+        T prevValue = chunk[offset];
+        chunk[offset] = element;
+        return prevValue;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return set((long) index, element);
+    }
+
+    /**
+     * Appends the specified element to the end of this list, allocating a new chunk if the last one is full.
+     *
+     * @param t element to be appended to this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     */
+    @Override
+    public boolean add(T t) {
+        ensureChunk(count);
+        chunks[(int) (count >>> chunkBits)][(int) (count & chunkMask)] = t;
+        count++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the element currently at that
+     * position (if any) and any subsequent elements to the right, chunk by chunk.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; longSize()</tt>)
+     */
+    public void add(long index, T element) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the BigArrayList.", index));
+        }
+
+        ensureChunk(count);
+        shiftRight(index, 1);
+        chunks[(int) (index >>> chunkBits)][(int) (index & chunkMask)] = element;
+        count++;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        add((long) index, element);
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Shifts any subsequent elements to the left, chunk
+     * by chunk, and releases a trailing chunk once two chunks are empty.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt;= longSize()</tt>)
+     */
+    public T remove(long index) {
+        T removeValue = get(index);
+        shiftLeft(index + 1, 1);
+        truncate(count - 1);
+        return removeValue;
+    }
+
+    @Override
+    public T remove(int index) {
+        return remove((long) index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        long indexToRemove = longIndexOf(o);
+        if (indexToRemove == -1) return false;
+
+        remove(indexToRemove);
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if there is none.
+     *
+     * @param o element to search for
+     * @return the index of the first occurrence of the specified element, or -1 if this list does not contain it
+     */
+    public long longIndexOf(Object o) {
+        for (int c = 0; c < chunkCount(); c++) {
+            T[] chunk = chunks[c];
+            int used = usedInChunk(c);
+            for (int i = 0; i < used; i++) {
+                if (Objects.equals(chunk[i], o)) {
+                    return ((long) c << chunkBits) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if there is none.
+     *
+     * @param o element to search for
+     * @return the index of the last occurrence of the specified element, or -1 if this list does not contain it
+     */
+    public long longLastIndexOf(Object o) {
+        for (int c = chunkCount() - 1; c >= 0; c--) {
+            T[] chunk = chunks[c];
+            for (int i = usedInChunk(c) - 1; i >= 0; i--) {
+                if (Objects.equals(chunk[i], o)) {
+                    return ((long) c << chunkBits) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @throws IllegalStateException if the element is found past <tt>Integer.MAX_VALUE</tt>; use {@link #longIndexOf}
+     */
+    @Override
+    public int indexOf(Object o) {
+        return toIntIndex(longIndexOf(o));
+    }
+
+    /**
+     * @throws IllegalStateException if the element is found past <tt>Integer.MAX_VALUE</tt>; use {@link #longLastIndexOf}
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return toIntIndex(longLastIndexOf(o));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return longIndexOf(o) != -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends all of the elements in the specified collection to the end of this list, copying them into the chunks
+     * one block at a time.
+     *
+     * @param c collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        Object[] itemArr = c.toArray();
+        if (itemArr.length == 0) return false;
+
+        int copied = 0;
+        while (copied < itemArr.length) {
+            ensureChunk(count);
+            int offset = (int) (count & chunkMask);
+            int length = Math.min(chunkSize - offset, itemArr.length - copied);
+            System.arraycopy(itemArr, copied, chunks[(int) (count >>> chunkBits)], offset, length);
+            copied += length;
+            count += length;
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this list at the specified position, shifting the
+     * subsequent elements to the right once.
+     *
+     * @param index index at which to insert the first element from the specified collection
+     * @param c     collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the BigArrayList.", index));
+        }
+
+        Object[] itemArr = c.toArray();
+        if (itemArr.length == 0) return false;
+
+        ensureChunk(count + itemArr.length - 1);
+        shiftRight(index, itemArr.length);
+        for (int copied = 0; copied < itemArr.length; ) {
+            long target = index + copied;
+            int offset = (int) (target & chunkMask);
+            int length = Math.min(chunkSize - offset, itemArr.length - copied);
+            System.arraycopy(itemArr, copied, chunks[(int) (target >>> chunkBits)], offset, length);
+            copied += length;
+        }
+        count += itemArr.length;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(item -> !c.contains(item));
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate in a single compacting pass. If the
+     * predicate throws, the elements it has not yet seen are kept and the gap left by those already removed is closed.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        long readIndex = 0;
+        long writeIndex = 0;
+        try {
+            for (; readIndex < count; readIndex++) {
+                T item = chunks[(int) (readIndex >>> chunkBits)][(int) (readIndex & chunkMask)];
+                if (!filter.test(item)) {
+                    chunks[(int) (writeIndex >>> chunkBits)][(int) (writeIndex & chunkMask)] = item;
+                    writeIndex++;
+                }
+            }
+        } finally {
+            compact(readIndex, writeIndex);
+        }
+        return writeIndex != readIndex;
+    }
+
+    /**
+     * Removes all of the elements from this list and releases every chunk.
+     */
+    @Override
+    public void clear() {
+        chunks = newDirectory(InitDirectoryCapacity);
+        count = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BigArrayListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new BigArrayListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the BigArrayList.", index));
+        }
+        return new BigArrayListIterator(index);
+    }
+
+    /**
+     * Creates a {@link Spliterator} that knows the exact long size of the list.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), count, Spliterator.ORDERED);
+    }
+
+    /**
+     * @throws IllegalStateException if the list holds more than <tt>Integer.MAX_VALUE</tt> elements
+     */
+    @Override
+    public Object[] toArray() {
+        T[] returnArray = (T[]) Array.newInstance(nodeClassType, toIntIndex(count));
+        copyTo(returnArray);
+        return returnArray;
+    }
+
+    /**
+     * @throws IllegalStateException if the list holds more than <tt>Integer.MAX_VALUE</tt> elements
+     */
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        int size = toIntIndex(count);
+        if (a.length < size) {
+            a = (T1[]) Array.newInstance(a.getClass().getComponentType(), size);
+        }
+
+        copyTo(a);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * The view reads and writes through to this list, and fails fast once this list is structurally modified other
+     * than through the view.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the BigArrayList.", fromIndex));
+        } else if (toIndex > count) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the BigArrayList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+        return new SubListView<>(this, () -> modCount, fromIndex, toIndex);
+    }
+
+    /**
+     * Makes sure the chunk holding the given index is allocated, growing the directory if needed. Only the
+     * directory of chunk references is ever copied.
+     */
+    private void ensureChunk(long index) {
+        long chunkIndex = index >>> chunkBits;
+        if (chunkIndex >= GrowthPolicy.MaxArraySize) {
+            throw new OutOfMemoryError("The BigArrayList cannot address any more chunks.");
+        }
+
+        if (chunkIndex >= chunks.length) {
+            int newLength = GrowthPolicy.doubling().grow(chunks.length, (int) chunkIndex + 1);
+            chunks = Arrays.copyOf(chunks, newLength);
+        }
+
+        for (int c = chunkCount(); c <= chunkIndex; c++) {
+            if (chunks[c] == null) {
+                chunks[c] = (T[]) Array.newInstance(nodeClassType, chunkSize);
+            }
+        }
+    }
+
+    /**
+     * Moves the elements in [index, count) right by distance slots, copying whole runs within a chunk at a time and
+     * starting from the end. The chunks covering the new tail must exist.
+     */
+    private void shiftRight(long index, int distance) {
+        long end = count;
+        while (end > index) {
+            long to = end + distance;
+            int fromRun = (int) ((end - 1) & chunkMask) + 1;
+            int toRun = (int) ((to - 1) & chunkMask) + 1;
+            int length = (int) Math.min(Math.min(fromRun, toRun), end - index);
+            System.arraycopy(chunks[(int) ((end - 1) >>> chunkBits)], fromRun - length,
+                    chunks[(int) ((to - 1) >>> chunkBits)], toRun - length, length);
+            end -= length;
+        }
+    }
+
+    /**
+     * Closes the gap a compacting pass leaves between writeIndex and readIndex by moving the unread elements down,
+     * then drops the freed tail.
+     */
+    private void compact(long readIndex, long writeIndex) {
+        if (writeIndex == readIndex) return;
+
+        long gap = readIndex - writeIndex;
+        shiftLeft(readIndex, gap);
+        truncate(count - gap);
+    }
+
+    /**
+     * Moves the elements in [index, count) left by distance slots, copying whole runs within a chunk at a time.
+     */
+    private void shiftLeft(long index, long distance) {
+        long from = index;
+        while (from < count) {
+            long to = from - distance;
+            int fromOffset = (int) (from & chunkMask);
+            int toOffset = (int) (to & chunkMask);
+            long length = Math.min(Math.min(chunkSize - fromOffset, chunkSize - toOffset), count - from);
+            System.arraycopy(chunks[(int) (from >>> chunkBits)], fromOffset, chunks[(int) (to >>> chunkBits)], toOffset, (int) length);
+            from += length;
+        }
+    }
+
+    /**
+     * Shrinks the list to the given size, clearing the freed slots and keeping at most one empty chunk for reuse.
+     */
+    private void truncate(long newCount) {
+        for (long i = newCount; i < count; i++) {
+            chunks[(int) (i >>> chunkBits)][(int) (i & chunkMask)] = null;
+        }
+
+        count = newCount;
+        modCount++;
+
+        int keepChunks = chunkCount() + 1;
+        for (int c = keepChunks; c < chunks.length && chunks[c] != null; c++) {
+            chunks[c] = null;
+        }
+    }
+
+    /**
+     * Returns the number of chunks holding at least one element.
+     */
+    private int chunkCount() {
+        return (int) ((count + chunkMask) >>> chunkBits);
+    }
+
+    private int usedInChunk(int chunkIndex) {
+        return (int) Math.min(chunkSize, count - ((long) chunkIndex << chunkBits));
+    }
+
+    private void copyTo(Object[] array) {
+        int copied = 0;
+        for (int c = 0; c < chunkCount(); c++) {
+            int used = usedInChunk(c);
+            System.arraycopy(chunks[c], 0, array, copied, used);
+            copied += used;
+        }
+    }
+
+    private T[][] newDirectory(int length) {
+        T[] prototype = (T[]) Array.newInstance(nodeClassType, 0);
+        return (T[][]) Array.newInstance(prototype.getClass(), length);
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the BigArrayList.", index));
+        }
+    }
+
+    private static int toIntIndex(long index) {
+        if (index > Integer.MAX_VALUE) {
+            throw new IllegalStateException(format("The index, %d, does not fit in an int; use the long-based methods.", index));
+        }
+        return (int) index;
+    }
+
+    /**
+     * Represents a fail-fast ListIterator that walks the chunks of a BigArrayList.
+     */
+    private class BigArrayListIterator implements ListIterator<T> {
+        private long cursor;
+        private long lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        BigArrayListIterator(long startIndex) {
+            cursor = startIndex;
+        }
+
+        public boolean hasNext() {
+            return cursor < count;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (cursor >= count) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return chunks[(int) (lastReturned >>> chunkBits)][(int) (lastReturned & chunkMask)];
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --cursor;
+            return chunks[(int) (lastReturned >>> chunkBits)][(int) (lastReturned & chunkMask)];
+        }
+
+        public int nextIndex() {
+            return toIntIndex(cursor);
+        }
+
+        public int previousIndex() {
+            return toIntIndex(cursor - 1);
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            BigArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        public void set(T t) {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            BigArrayList.this.set(lastReturned, t);
+        }
+
+        public void add(T t) {
+            checkForComodification();
+
+            BigArrayList.this.add(cursor++, t);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
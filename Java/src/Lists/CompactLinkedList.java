@@ -0,0 +1,683 @@
+package Lists;
+
+import java.lang.reflect.Array;
+import java.security.InvalidParameterException;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
+/**
+ * Represents a doubly-linked list that keeps its elements in one array and its links in two parallel int arrays
+ * instead of in node objects. Each element costs one array slot and two ints rather than a node with an object header
+ * and three references, and a traversal reads three dense arrays instead of chasing pointers across the heap.
+ * <p>
+ * The position of an element in the arrays is its slot. A slot stays the same for as long as the element is in the
+ * list, so {@link #insertBefore(int, Object)}, {@link #insertAfter(int, Object)} and {@link #removeSlot(int)} are O(1)
+ * once a slot is known, just like relinking a LinkedList node. Freed slots are chained into a free list and reused by
+ * later inserts. {@link #compact()} rewrites the arrays in list order, which restores sequential locality after heavy
+ * churn but changes every slot.
+ *
+ * @param <T> Specifies the element type of the CompactLinkedList.
+ */
+public class CompactLinkedList<T> implements List<T> {
+    /**
+     * The number of elements a CompactLinkedList can hold before growing if none is given in the constructor.
+     */
+    public static final int DefaultCapacity = 4;
+
+    /**
+     * The slot returned when there is no next, previous, first or last element.
+     */
+    public static final int NoSlot = -1;
+
+    /**
+     * The previous-link value that marks a slot as free.
+     */
+    private static final int FreeSlot = -2;
+
+    private T[] items;
+    private int[] nextSlots;
+    private int[] previousSlots;
+    private Class<T> nodeClassType;
+    private GrowthPolicy growthPolicy;
+    private int head = NoSlot;
+    private int tail = NoSlot;
+    private int freeHead = NoSlot;
+    private int usedSlots = 0;
+    private int count = 0;
+    private int modCount = 0;
+
+    /**
+     * Initializes a new instance of an empty CompactLinkedList with room for {@link #DefaultCapacity} elements.
+     *
+     * @param classType The class-type of the items the CompactLinkedList will store.
+     */
+    public CompactLinkedList(Class<T> classType) {
+        this(classType, DefaultCapacity);
+    }
+
+    /**
+     * Initializes a new instance of an empty CompactLinkedList with room for the given number of elements.
+     *
+     * @param classType The class-type of the items the CompactLinkedList will store.
+     * @param capacity  The number of elements the CompactLinkedList can hold before its arrays grow.
+     */
+    public CompactLinkedList(Class<T> classType, int capacity) {
+        this(classType, capacity, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Initializes a new instance of an empty CompactLinkedList that grows its arrays with the given policy.
+     *
+     * @param classType    The class-type of the items the CompactLinkedList will store.
+     * @param capacity     The number of elements the CompactLinkedList can hold before its arrays grow.
+     * @param growthPolicy The policy deciding how the arrays grow.
+     */
+    public CompactLinkedList(Class<T> classType, int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0) {
+            throw new InvalidParameterException("The capacity of the CompactLinkedList must be a positive number.");
+        } else if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        nodeClassType = classType;
+        this.growthPolicy = growthPolicy;
+        items = (T[]) Array.newInstance(classType, capacity);
+        nextSlots = new int[capacity];
+        previousSlots = new int[capacity];
+    }
+
+    /**
+     * @return Gets the number of elements the CompactLinkedList can hold before its arrays grow.
+     */
+    public int capacity() {
+        return items.length;
+    }
+
+    /**
+     * Increases the capacity of the CompactLinkedList, if necessary, so that it can hold at least the specified
+     * number of elements without growing again.
+     *
+     * @param minCapacity The minimum number of elements the CompactLinkedList must be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= items.length) return;
+
+        setCapacity(growthPolicy.grow(items.length, minCapacity));
+    }
+
+    /**
+     * Rewrites the arrays so that the elements sit in list order in the first slots, and shrinks the arrays to the
+     * size of the list. Every slot handed out before the call is invalidated.
+     */
+    public void compact() {
+        T[] packedItems = (T[]) Array.newInstance(nodeClassType, count);
+        int[] packedNext = new int[count];
+        int[] packedPrevious = new int[count];
+
+        int slot = head;
+        for (int i = 0; i < count; i++) {
+            packedItems[i] = items[slot];
+            packedNext[i] = i + 1 < count ? i + 1 : NoSlot;
+            packedPrevious[i] = i - 1;
+            slot = nextSlots[slot];
+        }
+
+        items = packedItems;
+        nextSlots = packedNext;
+        previousSlots = packedPrevious;
+        head = count > 0 ? 0 : NoSlot;
+        tail = count - 1;
+        freeHead = NoSlot;
+        usedSlots = count;
+        modCount++;
+    }
+
+    /**
+     * @return Gets the slot of the first element, or {@link #NoSlot} if the list is empty.
+     */
+    public int firstSlot() {
+        return head;
+    }
+
+    /**
+     * @return Gets the slot of the last element, or {@link #NoSlot} if the list is empty.
+     */
+    public int lastSlot() {
+        return tail;
+    }
+
+    /**
+     * @return Gets the slot of the element after the one in the given slot, or {@link #NoSlot} at the end.
+     */
+    public int nextSlot(int slot) {
+        checkSlot(slot);
+        return nextSlots[slot];
+    }
+
+    /**
+     * @return Gets the slot of the element before the one in the given slot, or {@link #NoSlot} at the start.
+     */
+    public int previousSlot(int slot) {
+        checkSlot(slot);
+        return previousSlots[slot];
+    }
+
+    /**
+     * @return Gets the element held in the given slot.
+     */
+    public T getSlot(int slot) {
+        checkSlot(slot);
+        return items[slot];
+    }
+
+    /**
+     * Replaces the element held in the given slot.
+     *
+     * @return The element previously held in the slot.
+     */
+    public T setSlot(int slot, T element) {
+        checkSlot(slot);
+        T prevValue = items[slot];
+        items[slot] = element;
+        return prevValue;
+    }
+
+    /**
+     * Inserts an element in front of the element in the given slot in O(1) time.
+     *
+     * @param slot    The slot of the element to insert in front of, or {@link #NoSlot} to append.
+     * @param element The element to insert.
+     * @return The slot of the inserted element.
+     */
+    public int insertBefore(int slot, T element) {
+        if (slot != NoSlot) {
+            checkSlot(slot);
+        }
+        return linkBefore(slot, element);
+    }
+
+    /**
+     * Inserts an element after the element in the given slot in O(1) time.
+     *
+     * @param slot    The slot of the element to insert after, or {@link #NoSlot} to prepend.
+     * @param element The element to insert.
+     * @return The slot of the inserted element.
+     */
+    public int insertAfter(int slot, T element) {
+        if (slot == NoSlot) {
+            return linkBefore(head, element);
+        }
+        checkSlot(slot);
+        return linkBefore(nextSlots[slot], element);
+    }
+
+    /**
+     * Removes the element in the given slot in O(1) time and frees the slot for reuse.
+     *
+     * @return The element that was removed.
+     */
+    public T removeSlot(int slot) {
+        checkSlot(slot);
+        return unlink(slot);
+    }
+
+    /**
+     * @return Gets the value of the first element within the CompactLinkedList.
+     */
+    public T getFirst() {
+        if (head == NoSlot) return null;
+
+        return items[head];
+    }
+
+    /**
+     * @return Gets the value of the last element within the CompactLinkedList.
+     */
+    public T getLast() {
+        if (tail == NoSlot) return null;
+
+        return items[tail];
+    }
+
+    /**
+     * Adds the specified element at the front of the CompactLinkedList.
+     *
+     * @param item The new value to add at the front of the CompactLinkedList.
+     */
+    public boolean addFirst(T item) {
+        linkBefore(head, item);
+        return true;
+    }
+
+    /**
+     * Adds the specified element at the end of the CompactLinkedList.
+     *
+     * @param item The new value to add at the end of the CompactLinkedList.
+     */
+    public boolean addLast(T item) {
+        linkBefore(NoSlot, item);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean add(T t) {
+        linkBefore(NoSlot, t);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the CompactLinkedList.", index));
+        }
+        linkBefore(index == count ? NoSlot : getSlotAt(index), element);
+    }
+
+    @Override
+    public T remove(int index) {
+        return unlink(getSlotAt(index));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        for (int slot = head; slot != NoSlot; slot = nextSlots[slot]) {
+            if (Objects.equals(items[slot], o)) {
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public T get(int index) {
+        return items[getSlotAt(index)];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        int slot = getSlotAt(index);
+        T prevValue = items[slot];
+        items[slot] = element;
+        return prevValue;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (int slot = head; slot != NoSlot; slot = nextSlots[slot]) {
+            if (Objects.equals(items[slot], o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = count - 1;
+        for (int slot = tail; slot != NoSlot; slot = previousSlots[slot]) {
+            if (Objects.equals(items[slot], o)) {
+                return index;
+            }
+            index--;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(count, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the CompactLinkedList.", index));
+        }
+        if (c.isEmpty()) return false;
+
+        ensureCapacity(count + c.size());
+        int successor = index == count ? NoSlot : getSlotAt(index);
+        for (T item : c) {
+            linkBefore(successor, item);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(item -> !c.contains(item));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        boolean changed = false;
+        for (int slot = head; slot != NoSlot; ) {
+            int next = nextSlots[slot];
+            if (filter.test(items[slot])) {
+                unlink(slot);
+                changed = true;
+            }
+            slot = next;
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(items, 0, usedSlots, null);
+        head = NoSlot;
+        tail = NoSlot;
+        freeHead = NoSlot;
+        usedSlots = 0;
+        count = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new CompactLinkedListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new CompactLinkedListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the CompactLinkedList.", index));
+        }
+        return new CompactLinkedListIterator(index);
+    }
+
+    @Override
+    public Object[] toArray() {
+        T[] retArray = (T[]) Array.newInstance(nodeClassType, count);
+        copyTo(retArray);
+        return retArray;
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        if (a.length < count) {
+            a = (T1[]) Array.newInstance(a.getClass().getComponentType(), count);
+        }
+
+        copyTo(a);
+        if (a.length > count) {
+            a[count] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * The view reads and writes through to this list, and fails fast once this list is structurally modified other
+     * than through the view.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the CompactLinkedList.", fromIndex));
+        } else if (toIndex > count) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the CompactLinkedList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+        return new SubListView<>(this, () -> modCount, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the slot of the element at the given index, walking from whichever end of the list is closer.
+     */
+    private int getSlotAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the CompactLinkedList.", index));
+        }
+
+        int slot;
+        if (index < count / 2) {
+            slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = nextSlots[slot];
+            }
+        } else {
+            slot = tail;
+            for (int i = count - 1; i > index; i--) {
+                slot = previousSlots[slot];
+            }
+        }
+        return slot;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= usedSlots || previousSlots[slot] == FreeSlot) {
+            throw new IllegalArgumentException(format("The slot, %d, does not hold an element of the CompactLinkedList.", slot));
+        }
+    }
+
+    /**
+     * Stores an element in a free slot and links it in front of the given successor slot, or at the end of the list
+     * if the successor is {@link #NoSlot}.
+     */
+    private int linkBefore(int successor, T element) {
+        int slot = allocateSlot();
+        int predecessor = successor == NoSlot ? tail : previousSlots[successor];
+
+        items[slot] = element;
+        previousSlots[slot] = predecessor;
+        nextSlots[slot] = successor;
+        if (predecessor == NoSlot) {
+            head = slot;
+        } else {
+            nextSlots[predecessor] = slot;
+        }
+        if (successor == NoSlot) {
+            tail = slot;
+        } else {
+            previousSlots[successor] = slot;
+        }
+
+        count++;
+        modCount++;
+        return slot;
+    }
+
+    /**
+     * Unlinks the element in the given slot and puts the slot on the free list.
+     */
+    private T unlink(int slot) {
+        int predecessor = previousSlots[slot];
+        int successor = nextSlots[slot];
+        if (predecessor == NoSlot) {
+            head = successor;
+        } else {
+            nextSlots[predecessor] = successor;
+        }
+        if (successor == NoSlot) {
+            tail = predecessor;
+        } else {
+            previousSlots[successor] = predecessor;
+        }
+
+        T removeValue = items[slot];
+        items[slot] = null;
+        previousSlots[slot] = FreeSlot;
+        nextSlots[slot] = freeHead;
+        freeHead = slot;
+
+        count--;
+        modCount++;
+        return removeValue;
+    }
+
+    /**
+     * Takes a slot from the free list, or the next never-used slot, growing the arrays if every slot is taken.
+     */
+    private int allocateSlot() {
+        if (freeHead != NoSlot) {
+            int slot = freeHead;
+            freeHead = nextSlots[slot];
+            return slot;
+        }
+
+        if (usedSlots == items.length) {
+            setCapacity(growthPolicy.grow(items.length, usedSlots + 1));
+        }
+        return usedSlots++;
+    }
+
+    private void setCapacity(int newCapacity) {
+        items = Arrays.copyOf(items, newCapacity);
+        nextSlots = Arrays.copyOf(nextSlots, newCapacity);
+        previousSlots = Arrays.copyOf(previousSlots, newCapacity);
+    }
+
+    private void copyTo(Object[] array) {
+        int i = 0;
+        for (int slot = head; slot != NoSlot; slot = nextSlots[slot]) {
+            array[i++] = items[slot];
+        }
+    }
+
+    /**
+     * Represents a fail-fast ListIterator that follows the slot links of a CompactLinkedList. Adding and removing
+     * through the iterator relink slots in O(1) time.
+     */
+    private class CompactLinkedListIterator implements ListIterator<T> {
+        private int nextSlot;
+        private int lastReturned = NoSlot;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        CompactLinkedListIterator(int startIndex) {
+            nextIndex = startIndex;
+            nextSlot = startIndex == count ? NoSlot : getSlotAt(startIndex);
+        }
+
+        public boolean hasNext() {
+            return nextIndex < count;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (nextSlot == NoSlot) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextSlot;
+            nextSlot = nextSlots[nextSlot];
+            nextIndex++;
+            return items[lastReturned];
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (nextIndex <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            nextSlot = nextSlot == NoSlot ? tail : previousSlots[nextSlot];
+            lastReturned = nextSlot;
+            nextIndex--;
+            return items[lastReturned];
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == NoSlot) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            if (lastReturned == nextSlot) {
+                nextSlot = nextSlots[lastReturned];
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = NoSlot;
+            expectedModCount = modCount;
+        }
+
+        public void set(T t) {
+            if (lastReturned == NoSlot) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            items[lastReturned] = t;
+        }
+
+        public void add(T t) {
+            checkForComodification();
+
+            linkBefore(nextSlot, t);
+            nextIndex++;
+            lastReturned = NoSlot;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
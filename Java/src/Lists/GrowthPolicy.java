@@ -0,0 +1,175 @@
+package Lists;
+
+import java.security.InvalidParameterException;
+
+import static java.lang.String.format;
+
+/**
+ * Decides how the backing array of an array-based collection grows when it is full, and whether it shrinks once
+ * elements are removed. Policies are stateless and can be shared between collections.
+ */
+public abstract class GrowthPolicy {
+
+    /**
+     * The largest array size the policies will ever request. Some VMs reserve header words in an array, so asking
+     * for more than this can fail even when there is enough memory.
+     */
+    public static final int MaxArraySize = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the capacity the backing array should grow to.
+     *
+     * @param currentCapacity The current length of the backing array.
+     * @param minCapacity     The number of elements the backing array must be able to hold.
+     * @return The new capacity, which is always at least minCapacity.
+     * @throws OutOfMemoryError if minCapacity is larger than {@link #MaxArraySize} (or negative after an overflow).
+     */
+    public abstract int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Returns the capacity the backing array should shrink to after elements were removed. The default never shrinks.
+     *
+     * @param currentCapacity The current length of the backing array.
+     * @param size            The number of elements currently held.
+     * @return The new capacity, which is always at least size. Returning currentCapacity leaves the array as it is.
+     */
+    public int shrink(int currentCapacity, int size) {
+        return currentCapacity;
+    }
+
+    /**
+     * @return A policy that doubles the capacity whenever the backing array is full.
+     */
+    public static GrowthPolicy doubling() {
+        return new ScaledGrowthPolicy(2, 1);
+    }
+
+    /**
+     * @return A policy that grows the capacity by half whenever the backing array is full.
+     */
+    public static GrowthPolicy oneAndAHalf() {
+        return new ScaledGrowthPolicy(3, 2);
+    }
+
+    /**
+     * @param increment The number of slots added every time the backing array is full.
+     * @return A policy that grows the capacity by a fixed number of slots.
+     */
+    public static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new InvalidParameterException("The increment of the GrowthPolicy must be a positive non-zero number.");
+        }
+        return new FixedGrowthPolicy(increment);
+    }
+
+    /**
+     * @param policy      The policy used to grow the backing array below the cap.
+     * @param maxCapacity The largest capacity the backing array may ever have.
+     * @return A policy that grows like the given policy but never beyond maxCapacity.
+     */
+    public static GrowthPolicy capped(GrowthPolicy policy, int maxCapacity) {
+        if (maxCapacity <= 0 || maxCapacity > MaxArraySize) {
+            throw new InvalidParameterException(format("The maximum capacity, %d, must be between 1 and %d.", maxCapacity, MaxArraySize));
+        }
+        return new CappedGrowthPolicy(policy, maxCapacity);
+    }
+
+    /**
+     * Returns a policy that grows like this one and halves the capacity once the collection is at most a quarter
+     * full. The gap between the shrink point and the resulting half-full array keeps a collection that hovers
+     * around a boundary from resizing on every add and remove.
+     *
+     * @param minCapacity The capacity the backing array never shrinks below.
+     * @return A policy that grows like this one and shrinks with hysteresis.
+     */
+    public GrowthPolicy withShrink(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new InvalidParameterException("The minimum capacity of the GrowthPolicy must be a positive number.");
+        }
+        return new ShrinkingGrowthPolicy(this, minCapacity);
+    }
+
+    /**
+     * Clamps a grown capacity computed in long arithmetic to a legal array size.
+     */
+    static int clampCapacity(long newCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MaxArraySize) {
+            throw new OutOfMemoryError(format("The required capacity, %d, exceeds the maximum array size.", minCapacity));
+        }
+        return (int) Math.min(Math.max(newCapacity, minCapacity), MaxArraySize);
+    }
+
+    private static final class ScaledGrowthPolicy extends GrowthPolicy {
+        private final int numerator;
+        private final int denominator;
+
+        ScaledGrowthPolicy(int numerator, int denominator) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+        }
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            return clampCapacity((long) currentCapacity * numerator / denominator, minCapacity);
+        }
+    }
+
+    private static final class FixedGrowthPolicy extends GrowthPolicy {
+        private final int increment;
+
+        FixedGrowthPolicy(int increment) {
+            this.increment = increment;
+        }
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            return clampCapacity((long) currentCapacity + increment, minCapacity);
+        }
+    }
+
+    private static final class CappedGrowthPolicy extends GrowthPolicy {
+        private final GrowthPolicy policy;
+        private final int maxCapacity;
+
+        CappedGrowthPolicy(GrowthPolicy policy, int maxCapacity) {
+            this.policy = policy;
+            this.maxCapacity = maxCapacity;
+        }
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            if (minCapacity < 0 || minCapacity > maxCapacity) {
+                throw new IllegalStateException(format("The capacity cannot grow past its maximum of %d.", maxCapacity));
+            }
+            return Math.min(policy.grow(currentCapacity, minCapacity), maxCapacity);
+        }
+
+        @Override
+        public int shrink(int currentCapacity, int size) {
+            return policy.shrink(currentCapacity, size);
+        }
+    }
+
+    private static final class ShrinkingGrowthPolicy extends GrowthPolicy {
+        private final GrowthPolicy policy;
+        private final int minCapacity;
+
+        ShrinkingGrowthPolicy(GrowthPolicy policy, int minCapacity) {
+            this.policy = policy;
+            this.minCapacity = minCapacity;
+        }
+
+        @Override
+        public int grow(int currentCapacity, int minCapacity) {
+            return policy.grow(currentCapacity, minCapacity);
+        }
+
+        @Override
+        public int shrink(int currentCapacity, int size) {
+            if (size > currentCapacity / 4) return currentCapacity;
+
+            int newCapacity = Math.max(currentCapacity / 2, minCapacity);
+            return newCapacity < currentCapacity ? Math.max(newCapacity, size) : currentCapacity;
+        }
+    }
+}
@@ -0,0 +1,614 @@
+package Lists;
+
+import java.security.InvalidParameterException;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * Implements the IList interface for int values using a primitive array whose size is dynamically increased as required.
+ * Elements are stored unboxed, the int-specific accessors ({@link #getInt(int)}, {@link #addInt(int)}, ...) never
+ * allocate, while the {@link List} methods box on the way in and out.
+ */
+public class IntArrayList implements List<Integer> {
+
+    /**
+     * The initial capacity of the IntArrayList if none is given in the constructor of the class.
+     */
+    public final int InitCapacity = 4;
+
+    private int arrayTail = -1;
+    private int[] backingArray;
+    private int modCount = 0;
+
+    /**
+     * Initializes a new instance of an IntArrayList that is empty and has the default initial capacity.
+     */
+    public IntArrayList() {
+        backingArray = new int[InitCapacity];
+        arrayTail = -1;
+    }
+
+    /**
+     * Initializes a new instance of an IntArrayList that is empty and has the specified initial capacity.
+     *
+     * @param capacity The initial number of elements that the IntArrayList can contain.
+     */
+    public IntArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new InvalidParameterException("The capacity of the IntArrayList must be initialized as a positive number.");
+        }
+
+        backingArray = new int[capacity];
+        arrayTail = -1;
+    }
+
+    /**
+     * Returns the number of elements the IntArrayList can hold before requiring to resize.
+     * @return the capacity of the IntArrayList.
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return arrayTail + 1;
+    }
+
+    /**
+     * @return <tt>true</tt> if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return arrayTail == -1;
+    }
+
+    /**
+     * Returns the int at the specified position in this list without boxing it.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return backingArray[index];
+    }
+
+    /**
+     * Replaces the int at the specified position in this list without boxing it.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    public int setInt(int index, int element) {
+        checkIndex(index);
+        int prevValue = backingArray[index];
+        backingArray[index] = element;
+        return prevValue;
+    }
+
+    /**
+     * Appends the specified int to the end of this list without boxing it.
+     *
+     * @param element element to be appended to this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     */
+    public boolean addInt(int element) {
+        resize();
+        backingArray[arrayTail] = element;
+        return true;
+    }
+
+    /**
+     * Inserts the specified int at the specified position in this list without boxing it. Shifts the element
+     * currently at that position (if any) and any subsequent elements to the right.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    public void addInt(int index, int element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the IntArrayList.", index));
+        }
+
+        resize();
+        System.arraycopy(backingArray, index, backingArray, index + 1, arrayTail - index);
+        backingArray[index] = element;
+    }
+
+    /**
+     * Removes the int at the specified position in this list and returns it without boxing it.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    public int removeInt(int index) {
+        checkIndex(index);
+
+        int removeValue = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index, arrayTail - index);
+        arrayTail--;
+        modCount++;
+        return removeValue;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int in this list, or -1 if it is not present.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    public int indexOfInt(int element) {
+        for (int i = 0; i <= arrayTail; i++) {
+            if (backingArray[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified int in this list, or -1 if it is not present.
+     *
+     * @param element element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    public int lastIndexOfInt(int element) {
+        for (int i = arrayTail; i >= 0; i--) {
+            if (backingArray[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <tt>true</tt> if this list contains the specified int.
+     *
+     * @param element element whose presence in this list is to be tested
+     * @return <tt>true</tt> if this list contains the specified element
+     */
+    public boolean containsInt(int element) {
+        return indexOfInt(element) != -1;
+    }
+
+    /**
+     * Copies the elements of the IntArrayList to a new int array.
+     *
+     * @return A new array containing the elements of this list in proper sequence.
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(backingArray, size());
+    }
+
+    /**
+     * Returns an unboxed iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return new IntArrayListIterator(0);
+    }
+
+    /**
+     * @param o element whose presence in this list is to be tested
+     * @return <tt>true</tt> if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    /**
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new IntArrayListIterator(0);
+    }
+
+    /**
+     * @return an array containing all of the elements in this list in proper sequence
+     */
+    @Override
+    public Object[] toArray() {
+        Integer[] returnArray = new Integer[size()];
+        for (int i = 0; i <= arrayTail; i++) {
+            returnArray[i] = backingArray[i];
+        }
+        return returnArray;
+    }
+
+    /**
+     * @param a the array into which the elements of this list are to be stored, if it is big enough; otherwise, a
+     *          new array of the same runtime type is allocated for this purpose.
+     * @return an array containing the elements of this list
+     */
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        if (a.length < size()) {
+            a = Arrays.copyOf(a, size());
+        }
+
+        for (int i = 0; i <= arrayTail; i++) {
+            a[i] = (T1) Integer.valueOf(backingArray[i]);
+        }
+
+        if (a.length > size()) {
+            a[size()] = null;
+        }
+        return a;
+    }
+
+    /**
+     * @param integer element to be appended to this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean add(Integer integer) {
+        return addInt(integer);
+    }
+
+    /**
+     * @param o element to be removed from this list, if present
+     * @return <tt>true</tt> if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        int indexToRemove = indexOf(o);
+        if (indexToRemove == -1) return false;
+
+        removeInt(indexToRemove);
+        return true;
+    }
+
+    /**
+     * @param c collection to be checked for containment in this list
+     * @return <tt>true</tt> if this list contains all of the elements of the specified collection
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param c collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection contains a null element
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * @param index index at which to insert the first element from the specified collection
+     * @param c     collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException      if the specified collection contains a null element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Integer> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the IntArrayList.", index));
+        }
+
+        Object[] items = c.toArray();
+        int[] values = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            values[i] = (Integer) items[i];
+        }
+        if (values.length == 0) return false;
+
+        int newSize = size() + values.length;
+        if (newSize > backingArray.length) {
+            backingArray = Arrays.copyOf(backingArray, Math.max(backingArray.length * 2, newSize));
+        }
+        System.arraycopy(backingArray, index, backingArray, index + values.length, size() - index);
+        System.arraycopy(values, 0, backingArray, index, values.length);
+        arrayTail += values.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * @param c collection containing elements to be removed from this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    /**
+     * @param c collection containing elements to be retained in this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        arrayTail = -1;
+        modCount++;
+    }
+
+    /**
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws NullPointerException      if the specified element is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    /**
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws NullPointerException      if the specified element is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public void add(int index, Integer element) {
+        addInt(index, element);
+    }
+
+    /**
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public Integer remove(int index) {
+        return removeInt(index);
+    }
+
+    /**
+     * @param o element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not
+     * contain the element
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Integer)) return -1;
+
+        return indexOfInt((Integer) o);
+    }
+
+    /**
+     * @param o element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not
+     * contain the element
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Integer)) return -1;
+
+        return lastIndexOfInt((Integer) o);
+    }
+
+    /**
+     * @return a list iterator over the elements in this list (in proper sequence)
+     */
+    @Override
+    public ListIterator<Integer> listIterator() {
+        return new IntArrayListIterator(0);
+    }
+
+    /**
+     * @param index index of the first element to be returned from the list iterator
+     * @return a list iterator over the elements in this list (in proper sequence), starting at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index > size()})
+     */
+    @Override
+    public ListIterator<Integer> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the IntArrayList.", index));
+        }
+        return new IntArrayListIterator(index);
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified <tt>fromIndex</tt>, inclusive, and
+     * <tt>toIndex</tt>, exclusive. The view reads and writes through to this list, boxing on the way, and fails fast
+     * once this list is structurally modified other than through the view.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     *                                   (<tt>fromIndex &lt; 0 || toIndex &gt; size ||
+     *                                   fromIndex &gt; toIndex</tt>)
+     */
+    @Override
+    public List<Integer> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the IntArrayList.", fromIndex));
+        } else if (toIndex > size()) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the IntArrayList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+
+        return new SubListView<>(this, () -> modCount, fromIndex, toIndex);
+    }
+
+    /**
+     * Keeps the elements that are (retain) or are not (!retain) in the given collection, compacting them towards the
+     * front of the backing array in a single pass. The collection is unboxed once into a sorted array, so each element
+     * is probed by binary search instead of being boxed for {@link Collection#contains}.
+     */
+    private boolean batchRemove(Collection<?> c, boolean retain) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        int[] lookup = new int[c.size()];
+        int lookupCount = 0;
+        for (Object item : c) {
+            if (item instanceof Integer) {
+                lookup[lookupCount++] = (Integer) item;
+            }
+        }
+        Arrays.sort(lookup, 0, lookupCount);
+
+        int writeIndex = 0;
+        for (int readIndex = 0; readIndex <= arrayTail; readIndex++) {
+            int item = backingArray[readIndex];
+            if ((Arrays.binarySearch(lookup, 0, lookupCount, item) >= 0) == retain) {
+                backingArray[writeIndex++] = item;
+            }
+        }
+        if (writeIndex == size()) return false;
+
+        arrayTail = writeIndex - 1;
+        modCount++;
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > arrayTail) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the IntArrayList.", index));
+        }
+    }
+
+    /**
+     * Checks if the IntArrayList needs to be resized. If resized, it doubles the size of the backing array.
+     */
+    private void resize() {
+        arrayTail++;
+        modCount++;
+        if (arrayTail < backingArray.length) return;
+
+        backingArray = Arrays.copyOf(backingArray, Math.max(backingArray.length * 2, InitCapacity));
+    }
+
+    /**
+     * Represents an unboxed ListIterator designed to traverse an IntArrayList.
+     */
+    private class IntArrayListIterator implements PrimitiveIterator.OfInt, ListIterator<Integer> {
+        private int nextIndex;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        IntArrayListIterator(int startIndex) {
+            nextIndex = startIndex;
+        }
+
+        public boolean hasNext() {
+            return nextIndex <= arrayTail;
+        }
+
+        public int nextInt() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextIndex++;
+            return backingArray[lastReturned];
+        }
+
+        public Integer next() {
+            return nextInt();
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public Integer previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --nextIndex;
+            return backingArray[lastReturned];
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            removeInt(lastReturned);
+            nextIndex = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        public void set(Integer integer) {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            setInt(lastReturned, integer);
+        }
+
+        public void add(Integer integer) {
+            checkForComodification();
+            addInt(nextIndex++, integer);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
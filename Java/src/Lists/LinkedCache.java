@@ -0,0 +1,497 @@
+package Lists;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Represents a bounded cache whose entries are doubly-linked nodes indexed by a HashMap. A lookup finds the node in
+ * the map and relinks it in O(1) time, and eviction unlinks a node from the tail of a segment in O(1) time, so no
+ * operation scans the entries.
+ * <p>
+ * The cache is bounded either by entry count or by a total weight computed per entry. When a put takes it over its
+ * bound, entries are evicted in the order given by the {@link EvictionPolicy} and passed to the eviction listener.
+ * Hits, misses and evictions are counted. A LinkedCache is not thread-safe.
+ *
+ * @param <K> Specifies the key type of the LinkedCache.
+ * @param <V> Specifies the value type of the LinkedCache.
+ */
+public class LinkedCache<K, V> {
+
+    /**
+     * The order in which a LinkedCache evicts its entries.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entry. Every hit moves the entry to the front of a single list.
+         */
+        LRU,
+        /**
+         * Evicts the least frequently used entry, and the least recently used among equally frequent ones. Entries
+         * are kept in one list per use count, and a hit moves the entry to the list for the next count.
+         */
+        LFU,
+        /**
+         * Keeps a probation and a protected LRU segment. New entries start on probation and are promoted on their
+         * first hit; the protected segment holds at most {@link #ProtectedShare} of the capacity and demotes its least
+         * recently used entries back to probation. Evicts from probation first, so one-off scans cannot flush entries
+         * that have been hit before.
+         */
+        SEGMENTED_LRU
+    }
+
+    /**
+     * The share of the capacity the protected segment of a {@link EvictionPolicy#SEGMENTED_LRU} cache may hold.
+     */
+    public static final double ProtectedShare = 0.8;
+
+    private final HashMap<K, LinkedCacheEntry<K, V>> entries = new HashMap<>();
+    private final EvictionPolicy policy;
+    private final long maxWeight;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private BiConsumer<? super K, ? super V> evictionListener = null;
+
+    /**
+     * The only segment of an LRU cache, and the probation segment of a segmented-LRU cache.
+     */
+    private final Segment<K, V> probation = new Segment<>();
+    private final Segment<K, V> protectedSegment = new Segment<>();
+
+    /**
+     * The bucket of least frequently used entries of an LFU cache. Buckets are linked in increasing use count.
+     */
+    private FrequencyBucket<K, V> lowestBucket = null;
+
+    private long weight = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Initializes a new instance of a LinkedCache that holds up to the given number of entries.
+     *
+     * @param capacity The maximum number of entries.
+     * @param policy   The order in which entries are evicted.
+     */
+    public LinkedCache(int capacity, EvictionPolicy policy) {
+        this(capacity, policy, (key, value) -> 1L);
+    }
+
+    /**
+     * Initializes a new instance of a LinkedCache whose entries may weigh up to the given total.
+     *
+     * @param maxWeight The maximum total weight of the entries.
+     * @param policy    The order in which entries are evicted.
+     * @param weigher   Computes the weight of an entry when it is put; cannot be negative.
+     */
+    public LinkedCache(long maxWeight, EvictionPolicy policy, ToLongBiFunction<? super K, ? super V> weigher) {
+        if (maxWeight <= 0) {
+            throw new InvalidParameterException("The capacity of the LinkedCache must be a positive non-zero number.");
+        } else if (policy == null) {
+            throw new NullPointerException("The eviction policy cannot be null.");
+        } else if (weigher == null) {
+            throw new NullPointerException("The weigher cannot be null.");
+        }
+
+        this.maxWeight = maxWeight;
+        this.policy = policy;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Sets the listener that is given the key and value of every evicted entry. Entries removed explicitly or by
+     * {@link #clear()} are not reported.
+     *
+     * @param evictionListener The listener to call, or null for none.
+     */
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * @return Gets the order in which entries are evicted.
+     */
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return Gets the maximum total weight of the entries, which is the maximum entry count for a count-bound cache.
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return Gets the total weight of the entries currently held.
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return Gets the number of entries currently held.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Gets the number of lookups that found an entry.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Gets the number of lookups that found no entry.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Gets the number of entries evicted to respect the capacity.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters to zero.
+     */
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * Looks up the value cached for a key and records the use of the entry.
+     *
+     * @param key The key to look up.
+     * @return The cached value, or null if the key is not cached.
+     */
+    public V get(K key) {
+        LinkedCacheEntry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        recordUse(entry);
+        return entry.Value;
+    }
+
+    /**
+     * @return Gets whether the key is cached, without recording a use or counting a hit or miss.
+     */
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Caches a value for a key, replacing and using any entry already cached for it, and evicts other entries until
+     * the cache is within its capacity. Room is made before a new entry is linked, so the entry being put is never
+     * chosen as the victim. An entry that on its own weighs more than the capacity is evicted right away.
+     *
+     * @param key   The key to cache the value under.
+     * @param value The value to cache.
+     * @return The value previously cached for the key, or null if there was none.
+     */
+    public V put(K key, V value) {
+        long entryWeight = weigher.applyAsLong(key, value);
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException("The weight of a LinkedCache entry cannot be negative.");
+        }
+
+        LinkedCacheEntry<K, V> entry = entries.get(key);
+        V prevValue = null;
+        if (entry != null) {
+            prevValue = entry.Value;
+            entry.Value = value;
+            entry.Owner.Weight += entryWeight - entry.Weight;
+            weight += entryWeight - entry.Weight;
+            entry.Weight = entryWeight;
+            recordUse(entry);
+
+            if (entryWeight > maxWeight) {
+                evict(entry);
+            }
+            while (weight > maxWeight) {
+                evict(victim(entry));
+            }
+        } else {
+            entry = new LinkedCacheEntry<>(key, value, entryWeight);
+            if (entryWeight > maxWeight) {
+                reportEviction(entry);
+                return null;
+            }
+
+            while (weight + entryWeight > maxWeight) {
+                evict(victim(null));
+            }
+            entries.put(key, entry);
+            weight += entryWeight;
+            insert(entry);
+        }
+        return prevValue;
+    }
+
+    /**
+     * Removes the entry cached for a key without reporting it to the eviction listener.
+     *
+     * @param key The key to remove.
+     * @return The value that was cached for the key, or null if there was none.
+     */
+    public V remove(K key) {
+        LinkedCacheEntry<K, V> entry = entries.get(key);
+        if (entry == null) return null;
+
+        removeEntry(entry);
+        return entry.Value;
+    }
+
+    /**
+     * Removes every entry without reporting them to the eviction listener. The counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+        probation.clear();
+        protectedSegment.clear();
+        lowestBucket = null;
+        weight = 0;
+    }
+
+    /**
+     * @return Gets the cached keys in the order they would be evicted, starting with the next victim.
+     */
+    public List<K> evictionOrder() {
+        Object[] keys = new Object[entries.size()];
+        int i = 0;
+        if (policy == EvictionPolicy.LFU) {
+            for (FrequencyBucket<K, V> bucket = lowestBucket; bucket != null; bucket = bucket.NextBucket) {
+                i = bucket.copyKeysFromTail(keys, i);
+            }
+        } else {
+            i = probation.copyKeysFromTail(keys, i);
+            protectedSegment.copyKeysFromTail(keys, i);
+        }
+        return (List<K>) Arrays.asList(keys);
+    }
+
+    /**
+     * Links a new entry in where the policy admits new entries.
+     */
+    private void insert(LinkedCacheEntry<K, V> entry) {
+        if (policy != EvictionPolicy.LFU) {
+            probation.linkFirst(entry);
+            return;
+        }
+
+        if (lowestBucket == null || lowestBucket.Frequency != 1) {
+            FrequencyBucket<K, V> bucket = new FrequencyBucket<>(1);
+            bucket.NextBucket = lowestBucket;
+            if (lowestBucket != null) {
+                lowestBucket.PreviousBucket = bucket;
+            }
+            lowestBucket = bucket;
+        }
+        lowestBucket.linkFirst(entry);
+    }
+
+    /**
+     * Relinks an entry that has just been used.
+     */
+    private void recordUse(LinkedCacheEntry<K, V> entry) {
+        switch (policy) {
+            case LRU:
+                probation.moveToFront(entry);
+                break;
+            case SEGMENTED_LRU:
+                promote(entry);
+                break;
+            case LFU:
+                incrementFrequency(entry);
+                break;
+        }
+    }
+
+    /**
+     * Moves a used entry to the front of the protected segment, demoting the least recently used protected entries
+     * to the front of probation while the protected segment is over its share.
+     */
+    private void promote(LinkedCacheEntry<K, V> entry) {
+        if (entry.Owner == protectedSegment) {
+            protectedSegment.moveToFront(entry);
+            return;
+        }
+
+        probation.unlink(entry);
+        protectedSegment.linkFirst(entry);
+
+        long protectedMax = (long) (maxWeight * ProtectedShare);
+        while (protectedSegment.Weight > protectedMax && protectedSegment.Tail != entry) {
+            LinkedCacheEntry<K, V> demoted = protectedSegment.Tail;
+            protectedSegment.unlink(demoted);
+            probation.linkFirst(demoted);
+        }
+    }
+
+    /**
+     * Moves a used entry to the front of the bucket for its next use count, creating that bucket if needed and
+     * dropping its old bucket if it is left empty.
+     */
+    private void incrementFrequency(LinkedCacheEntry<K, V> entry) {
+        FrequencyBucket<K, V> bucket = (FrequencyBucket<K, V>) entry.Owner;
+        FrequencyBucket<K, V> next = bucket.NextBucket;
+        if (next == null || next.Frequency != bucket.Frequency + 1) {
+            next = new FrequencyBucket<>(bucket.Frequency + 1);
+            next.PreviousBucket = bucket;
+            next.NextBucket = bucket.NextBucket;
+            if (bucket.NextBucket != null) {
+                bucket.NextBucket.PreviousBucket = next;
+            }
+            bucket.NextBucket = next;
+        }
+
+        bucket.unlink(entry);
+        next.linkFirst(entry);
+        removeBucketIfEmpty(bucket);
+    }
+
+    private void removeBucketIfEmpty(FrequencyBucket<K, V> bucket) {
+        if (bucket.Head != null) return;
+
+        if (bucket.PreviousBucket == null) {
+            lowestBucket = bucket.NextBucket;
+        } else {
+            bucket.PreviousBucket.NextBucket = bucket.NextBucket;
+        }
+        if (bucket.NextBucket != null) {
+            bucket.NextBucket.PreviousBucket = bucket.PreviousBucket;
+        }
+    }
+
+    /**
+     * @return Gets the entry the policy evicts next, passing over the given entry, or null if there is no other entry.
+     */
+    private LinkedCacheEntry<K, V> victim(LinkedCacheEntry<K, V> excluded) {
+        if (policy == EvictionPolicy.LFU) {
+            for (FrequencyBucket<K, V> bucket = lowestBucket; bucket != null; bucket = bucket.NextBucket) {
+                LinkedCacheEntry<K, V> candidate = leastRecentlyUsed(bucket, excluded);
+                if (candidate != null) return candidate;
+            }
+            return null;
+        }
+
+        LinkedCacheEntry<K, V> candidate = leastRecentlyUsed(probation, excluded);
+        return candidate != null ? candidate : leastRecentlyUsed(protectedSegment, excluded);
+    }
+
+    private static <K, V> LinkedCacheEntry<K, V> leastRecentlyUsed(Segment<K, V> segment, LinkedCacheEntry<K, V> excluded) {
+        LinkedCacheEntry<K, V> tail = segment.Tail;
+        return tail != null && tail == excluded ? tail.PreviousNode : tail;
+    }
+
+    private void evict(LinkedCacheEntry<K, V> entry) {
+        removeEntry(entry);
+        reportEviction(entry);
+    }
+
+    private void reportEviction(LinkedCacheEntry<K, V> entry) {
+        evictions++;
+        if (evictionListener != null) {
+            evictionListener.accept(entry.Key, entry.Value);
+        }
+    }
+
+    private void removeEntry(LinkedCacheEntry<K, V> entry) {
+        entries.remove(entry.Key);
+        weight -= entry.Weight;
+
+        Segment<K, V> owner = entry.Owner;
+        owner.unlink(entry);
+        if (owner instanceof FrequencyBucket) {
+            removeBucketIfEmpty((FrequencyBucket<K, V>) owner);
+        }
+    }
+
+    /**
+     * Represents a doubly-linked list of cache entries ordered from most to least recently used, with the total
+     * weight of its entries.
+     */
+    static class Segment<K, V> {
+        LinkedCacheEntry<K, V> Head = null;
+        LinkedCacheEntry<K, V> Tail = null;
+        long Weight = 0;
+
+        void linkFirst(LinkedCacheEntry<K, V> entry) {
+            entry.Owner = this;
+            entry.PreviousNode = null;
+            entry.NextNode = Head;
+            if (Head != null) {
+                Head.PreviousNode = entry;
+            } else {
+                Tail = entry;
+            }
+            Head = entry;
+            Weight += entry.Weight;
+        }
+
+        void unlink(LinkedCacheEntry<K, V> entry) {
+            if (entry.PreviousNode == null) {
+                Head = entry.NextNode;
+            } else {
+                entry.PreviousNode.NextNode = entry.NextNode;
+            }
+            if (entry.NextNode == null) {
+                Tail = entry.PreviousNode;
+            } else {
+                entry.NextNode.PreviousNode = entry.PreviousNode;
+            }
+
+            entry.PreviousNode = null;
+            entry.NextNode = null;
+            entry.Owner = null;
+            Weight -= entry.Weight;
+        }
+
+        void moveToFront(LinkedCacheEntry<K, V> entry) {
+            if (entry == Head) return;
+
+            unlink(entry);
+            linkFirst(entry);
+        }
+
+        void clear() {
+            Head = null;
+            Tail = null;
+            Weight = 0;
+        }
+
+        int copyKeysFromTail(Object[] keys, int position) {
+            for (LinkedCacheEntry<K, V> entry = Tail; entry != null; entry = entry.PreviousNode) {
+                keys[position++] = entry.Key;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Represents the segment of an LFU cache holding the entries used a given number of times.
+     */
+    private static final class FrequencyBucket<K, V> extends Segment<K, V> {
+        final long Frequency;
+        FrequencyBucket<K, V> PreviousBucket = null;
+        FrequencyBucket<K, V> NextBucket = null;
+
+        FrequencyBucket(long frequency) {
+            Frequency = frequency;
+        }
+    }
+}
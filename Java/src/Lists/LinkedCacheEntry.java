@@ -0,0 +1,16 @@
+package Lists;
+
+class LinkedCacheEntry<K, V> {
+    public LinkedCacheEntry<K, V> PreviousNode = null;
+    public LinkedCacheEntry<K, V> NextNode = null;
+    public LinkedCache.Segment<K, V> Owner = null;
+    public final K Key;
+    public V Value;
+    public long Weight;
+
+    public LinkedCacheEntry(K key, V value, long weight) {
+        Key = key;
+        Value = value;
+        Weight = weight;
+    }
+}
@@ -0,0 +1,150 @@
+package Lists;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Represents a LinkedList with a side hash index from each element to the node holding it, in the manner of a
+ * LinkedHashMap. {@link #contains(Object)} and {@link #remove(Object)} look the element up in the index instead of
+ * scanning the list, so they take O(1) time when the element occurs once; {@link #indexOf(Object)} still walks the
+ * list to count the position, but answers a missing element without walking. Iteration order, getFirst and getLast
+ * are those of the LinkedList.
+ * <p>
+ * An element stored more than once is indexed to all of its nodes. Removing such an element by value walks the list
+ * from the head to find its first occurrence.
+ *
+ * @param <T> Specifies the element type of the LinkedHashList.
+ */
+public class LinkedHashList<T> extends LinkedList<T> {
+
+    /**
+     * Maps each element either to its only node or, when it occurs more than once, to an ArrayDeque of its nodes.
+     */
+    private final HashMap<Object, Object> index = new HashMap<>();
+
+    /**
+     * Initializes a new instance of an empty LinkedHashList.
+     *
+     * @param classType The class-type of the items the LinkedHashList will store.
+     */
+    public LinkedHashList(Class<T> classType) {
+        super(classType);
+    }
+
+    /**
+     * Initializes a new instance of an empty LinkedHashList that recycles its nodes through the given pool.
+     *
+     * @param classType The class-type of the items the LinkedHashList will store.
+     * @param nodePool  The pool to take nodes from and return them to.
+     */
+    public LinkedHashList(Class<T> classType, LinkedListNodePool nodePool) {
+        super(classType, nodePool);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return index.containsKey(o);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Object entry = index.get(o);
+        if (entry == null) return false;
+
+        if (entry instanceof LinkedListNode) {
+            removeNode((LinkedListNode<T>) entry);
+            return true;
+        }
+
+        LinkedListNode<T> cursor = getHead();
+        while (!Objects.equals(cursor.Data, o)) {
+            cursor = cursor.NextNode;
+        }
+        removeNode(cursor);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!index.containsKey(o)) return -1;
+
+        return super.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!index.containsKey(o)) return -1;
+
+        return super.lastIndexOf(o);
+    }
+
+    @Override
+    void afterNodeLinked(LinkedListNode<T> node) {
+        addToIndex(node.Data, node);
+    }
+
+    @Override
+    void beforeNodeUnlinked(LinkedListNode<T> node) {
+        removeFromIndex(node.Data, node);
+    }
+
+    @Override
+    void afterNodeDataReplaced(LinkedListNode<T> node, T oldData) {
+        removeFromIndex(oldData, node);
+        addToIndex(node.Data, node);
+    }
+
+    @Override
+    void afterRunLinked(LinkedListNode<T> first, LinkedListNode<T> last) {
+        for (LinkedListNode<T> node = first; node != last.NextNode; node = node.NextNode) {
+            addToIndex(node.Data, node);
+        }
+    }
+
+    @Override
+    void afterRunUnlinked(LinkedListNode<T> first, LinkedListNode<T> last) {
+        for (LinkedListNode<T> node = first; node != last.NextNode; node = node.NextNode) {
+            removeFromIndex(node.Data, node);
+        }
+    }
+
+    @Override
+    void afterCleared() {
+        index.clear();
+    }
+
+    @Override
+    LinkedList<T> newEmptyList(Class<T> classType) {
+        LinkedListNodePool nodePool = getNodePool();
+        return nodePool != null ? new LinkedHashList<>(classType, nodePool) : new LinkedHashList<>(classType);
+    }
+
+    private void addToIndex(T key, LinkedListNode<T> node) {
+        Object entry = index.putIfAbsent(key, node);
+        if (entry == null) return;
+
+        if (entry instanceof LinkedListNode) {
+            ArrayDeque<LinkedListNode<T>> nodes = new ArrayDeque<>(4);
+            nodes.add((LinkedListNode<T>) entry);
+            nodes.add(node);
+            index.put(key, nodes);
+        } else {
+            ((ArrayDeque<LinkedListNode<T>>) entry).add(node);
+        }
+    }
+
+    private void removeFromIndex(T key, LinkedListNode<T> node) {
+        Object entry = index.get(key);
+        if (entry == node) {
+            index.remove(key);
+            return;
+        }
+
+        ArrayDeque<LinkedListNode<T>> nodes = (ArrayDeque<LinkedListNode<T>>) entry;
+        nodes.removeFirstOccurrence(node);
+        if (nodes.size() == 1) {
+            index.put(key, nodes.peekFirst());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package Lists;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 
@@ -14,7 +15,16 @@ public class LinkedList<T> implements List<T> {
     private LinkedListNode<T> head = null;
     private LinkedListNode<T> tail = null;
     private Class<T> nodeClassType = null;
+    private LinkedListNodePool nodePool = null;
     private int count = 0;
+    private int modCount = 0;
+
+    /**
+     * The node last reached by an indexed access, and its index; -1 when no finger is set. Indexed accesses seek from
+     * whichever of head, tail or finger is closest, so sequential and nearby accesses only walk a few nodes.
+     */
+    private LinkedListNode<T> fingerNode = null;
+    private int fingerIndex = -1;
 
     public LinkedList(Class<T> classType) {
         nodeClassType = classType;
@@ -23,6 +33,28 @@ public class LinkedList<T> implements List<T> {
         count = 0;
     }
 
+    /**
+     * Initializes a new instance of a LinkedList that recycles its nodes through the given pool. Nodes unlinked by a
+     * removal are returned to the pool and reused by later inserts.
+     *
+     * @param classType The class-type of the items the LinkedList will store.
+     * @param nodePool  The pool to take nodes from and return them to, e.g. {@link LinkedListNodePool#forCurrentThread()}.
+     */
+    public LinkedList(Class<T> classType, LinkedListNodePool nodePool) {
+        this(classType);
+        if (nodePool == null) {
+            throw new NullPointerException("The node pool cannot be null.");
+        }
+        this.nodePool = nodePool;
+    }
+
+    /**
+     * @return Gets the pool the LinkedList recycles its nodes through, or null if it does not pool nodes.
+     */
+    public LinkedListNodePool getNodePool() {
+        return nodePool;
+    }
+
     /**
      * @return Gets the first node of the LinkedList.
      */
@@ -108,7 +140,20 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        return null;
+        return new LinkedListForwardIterator();
+    }
+
+    /**
+     * Creates a late-binding, fail-fast {@link Spliterator} over the elements in this list. A linked list cannot be
+     * split in the middle without walking to it, so {@link Spliterator#trySplit()} instead copies the next batch of
+     * elements into an array and hands that off, growing the batch size on each split. Parallel streams therefore get
+     * work to share without the whole list being copied up front.
+     *
+     * @return a {@code Spliterator} over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator();
     }
 
     /**
@@ -219,12 +264,19 @@ public class LinkedList<T> implements List<T> {
      */
     public boolean addFirst(T item) {
         count++;
-        LinkedListNode<T> newNode = new LinkedListNode<T>(item, null);
+        LinkedListNode<T> newNode = newNode(item, null);
         if (head != null) {
             newNode.NextNode = head;
             head.PreviousNode = newNode;
+        } else {
+            tail = newNode;
         }
         head = newNode;
+        if (fingerIndex != -1) {
+            fingerIndex++;
+        }
+        modCount++;
+        afterNodeLinked(newNode);
         return true;
     }
 
@@ -240,12 +292,14 @@ public class LinkedList<T> implements List<T> {
             return true;
         }
 
-        LinkedListNode<T> newNode = new LinkedListNode<T>(item, tail);
+        LinkedListNode<T> newNode = newNode(item, tail);
         if (tail != null) {
             tail.NextNode = newNode;
         }
         tail = newNode;
         count++;
+        modCount++;
+        afterNodeLinked(newNode);
         return true;
     }
 
@@ -429,12 +483,13 @@ public class LinkedList<T> implements List<T> {
         boolean changed = false;
 
         while (cursor != null) {
+            LinkedListNode<T> nextNode = cursor.NextNode;
             if (!c.contains(cursor.Data)) {
-                remove(cursor.Data);
+                removeNode(cursor);
                 changed = true;
             }
 
-            cursor = cursor.NextNode;
+            cursor = nextNode;
         }
         return changed;
     }
@@ -448,9 +503,19 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void clear() {
+        LinkedListNode<T> cursor = head;
+        while (nodePool != null && cursor != null) {
+            LinkedListNode<T> next = cursor.NextNode;
+            if (!nodePool.release(cursor)) break;
+            cursor = next;
+        }
+
         head = null;
         tail = null;
         count = 0;
+        modCount++;
+        clearFinger();
+        afterCleared();
     }
 
     /**
@@ -489,6 +554,7 @@ public class LinkedList<T> implements List<T> {
         LinkedListNode<T> nodeToRemove = getNodeAt(index);
         T dataRemoved = nodeToRemove.Data;
         nodeToRemove.Data = element;
+        afterNodeDataReplaced(nodeToRemove, dataRemoved);
         return dataRemoved;
     }
 
@@ -522,7 +588,7 @@ public class LinkedList<T> implements List<T> {
         }
 
         LinkedListNode<T> oldNode = getNodeAt(index);
-        LinkedListNode<T> newNode = new LinkedListNode<T>(element, oldNode.PreviousNode);
+        LinkedListNode<T> newNode = newNode(element, oldNode.PreviousNode);
         if (oldNode.PreviousNode != null) {
             oldNode.PreviousNode.NextNode = newNode;
         }
@@ -530,6 +596,11 @@ public class LinkedList<T> implements List<T> {
         oldNode.PreviousNode = newNode;
         newNode.NextNode = oldNode;
         count++;
+        modCount++;
+
+        fingerNode = newNode;
+        fingerIndex = index;
+        afterNodeLinked(newNode);
     }
 
     /**
@@ -578,7 +649,7 @@ public class LinkedList<T> implements List<T> {
         int index = 0;
 
         while (cursor != null) {
-            if (cursor.Data.equals(o)) {
+            if (Objects.equals(cursor.Data, o)) {
                 return index;
             }
 
@@ -611,7 +682,7 @@ public class LinkedList<T> implements List<T> {
         int index = count - 1;
 
         while (cursor != null) {
-            if (cursor.Data.equals(o)) {
+            if (Objects.equals(cursor.Data, o)) {
                 return index;
             }
 
@@ -709,46 +780,363 @@ public class LinkedList<T> implements List<T> {
         return subList;
     }
 
-    private void removeNode(LinkedListNode<T> node) {
+    /**
+     * Moves every node of the given list to the end of this list by relinking, without copying or allocating. The
+     * other list is left empty.
+     *
+     * @param other The list whose nodes are appended to this list.
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void transferAll(LinkedList<T> other) {
+        spliceAt(count, other);
+    }
+
+    /**
+     * Moves every node of the given list into this list in front of the element at the given index, by relinking
+     * without copying or allocating. Only the seek to the index walks the list. The other list is left empty.
+     *
+     * @param index The index at which the first element of the other list will end up.
+     * @param other The list whose nodes are spliced into this list.
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; size()</tt>)
+     * @throws IllegalArgumentException  if the other list is this list
+     */
+    public void spliceAt(int index, LinkedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("A LinkedList cannot be spliced into itself.");
+        } else if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LinkedList.", index));
+        }
+        if (other.head == null) return;
+
+        LinkedListNode<T> first = other.head;
+        LinkedListNode<T> last = other.tail;
+        LinkedListNode<T> before = index == 0 ? null : index == count ? tail : getNodeAt(index).PreviousNode;
+        LinkedListNode<T> after = before == null ? head : before.NextNode;
+
+        first.PreviousNode = before;
+        last.NextNode = after;
+        if (before == null) {
+            head = first;
+        } else {
+            before.NextNode = first;
+        }
+        if (after == null) {
+            tail = last;
+        } else {
+            after.PreviousNode = last;
+        }
+
+        count += other.count;
+        modCount++;
+        fingerNode = first;
+        fingerIndex = index;
+        other.head = null;
+        other.tail = null;
+        other.count = 0;
+        other.modCount++;
+        other.clearFinger();
+
+        afterRunLinked(first, last);
+        other.afterCleared();
+    }
+
+    /**
+     * Detaches the elements from the given index to the end of this list and returns them as a new list, by
+     * relinking without copying. Only the seek to the index walks the list. The new list shares this list's node pool.
+     *
+     * @param index The index of the first element to move into the new list.
+     * @return A new LinkedList holding the elements from the index onwards.
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    public LinkedList<T> splitAt(int index) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LinkedList.", index));
+        }
+
+        LinkedList<T> upperPart = newEmptyList(nodeClassType);
+        if (index == count) return upperPart;
+
+        LinkedListNode<T> first = getNodeAt(index);
+        LinkedListNode<T> last = tail;
+        upperPart.head = first;
+        upperPart.tail = tail;
+        upperPart.count = count - index;
+
+        tail = first.PreviousNode;
+        if (tail == null) {
+            head = null;
+        } else {
+            tail.NextNode = null;
+        }
+        first.PreviousNode = null;
+        count = index;
+        modCount++;
+        clearFinger();
+
+        afterRunUnlinked(first, last);
+        upperPart.afterRunLinked(first, last);
+        return upperPart;
+    }
+
+    /**
+     * Called after a node holding new data has been linked into the list.
+     */
+    void afterNodeLinked(LinkedListNode<T> node) {
+    }
+
+    /**
+     * Called before a node is unlinked from the list, while it still holds its data.
+     */
+    void beforeNodeUnlinked(LinkedListNode<T> node) {
+    }
+
+    /**
+     * Called after the data of a linked node has been replaced.
+     */
+    void afterNodeDataReplaced(LinkedListNode<T> node, T oldData) {
+    }
+
+    /**
+     * Called after the run of nodes from first to last, inclusive, has been spliced into the list in one go.
+     */
+    void afterRunLinked(LinkedListNode<T> first, LinkedListNode<T> last) {
+    }
+
+    /**
+     * Called after the run of nodes from first to last, inclusive, has been detached from the list in one go.
+     */
+    void afterRunUnlinked(LinkedListNode<T> first, LinkedListNode<T> last) {
+    }
+
+    /**
+     * Called after every node has been dropped from the list.
+     */
+    void afterCleared() {
+    }
+
+    /**
+     * Creates an empty list of the same kind as this one that shares its node pool, e.g. for {@link #splitAt(int)}.
+     */
+    LinkedList<T> newEmptyList(Class<T> classType) {
+        return nodePool != null ? new LinkedList<>(classType, nodePool) : new LinkedList<>(classType);
+    }
+
+    /**
+     * Unlinks the given node, keeping the finger valid, and returns it to the node pool.
+     */
+    void removeNode(LinkedListNode<T> node) {
+        beforeNodeUnlinked(node);
+        if (node == fingerNode) {
+            if (node.NextNode != null) {
+                fingerNode = node.NextNode;
+            } else {
+                fingerNode = node.PreviousNode;
+                fingerIndex--;
+            }
+        } else {
+            clearFinger();
+        }
+
         count--;
+        modCount++;
         if (node.PreviousNode == null) {
             head = node.NextNode;
-            if (head != null) {
-                head.PreviousNode = null;
-            }
-            return;
+        } else {
+            node.PreviousNode.NextNode = node.NextNode;
         }
 
         if (node.NextNode == null) {
             tail = node.PreviousNode;
-            tail.NextNode = null;
-            return;
+        } else {
+            node.NextNode.PreviousNode = node.PreviousNode;
+        }
+
+        if (nodePool != null) {
+            nodePool.release(node);
         }
+    }
 
-        node.NextNode.PreviousNode = node.PreviousNode;
-        node.PreviousNode.NextNode = node.NextNode;
+    /**
+     * Forgets the finger, e.g. after a removal whose index is not known.
+     */
+    private void clearFinger() {
+        fingerNode = null;
+        fingerIndex = -1;
     }
 
+    /**
+     * Creates a node for the given data, taking it from the node pool when the LinkedList has one.
+     */
+    private LinkedListNode<T> newNode(T data, LinkedListNode<T> previousNode) {
+        if (nodePool != null) {
+            return nodePool.acquire(data, previousNode);
+        }
+        return new LinkedListNode<T>(data, previousNode);
+    }
+
+    /**
+     * Seeks the node at the given index, starting from whichever of the head, the tail or the finger is closest, and
+     * moves the finger to it.
+     */
     private LinkedListNode<T> getNodeAt(int index) {
         if (index < 0 || index >= count) {
-            throw new IndexOutOfBoundsException(format("The index, {0}, is out of the bounds of the LinkedList.", index));
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LinkedList.", index));
         }
 
         LinkedListNode<T> cursor = head;
-        for (int i = 0; i < index; i++) {
+        int cursorIndex = 0;
+        if (count - 1 - index < index) {
+            cursor = tail;
+            cursorIndex = count - 1;
+        }
+        if (fingerIndex != -1 && Math.abs(fingerIndex - index) < Math.abs(cursorIndex - index)) {
+            cursor = fingerNode;
+            cursorIndex = fingerIndex;
+        }
+
+        for (; cursorIndex < index; cursorIndex++) {
             cursor = cursor.NextNode;
         }
+        for (; cursorIndex > index; cursorIndex--) {
+            cursor = cursor.PreviousNode;
+        }
+
+        fingerNode = cursor;
+        fingerIndex = index;
         return cursor;
     }
 
     private LinkedListNode<T> getNode(Object data) {
         LinkedListNode<T> cursor = head;
         while (cursor != null) {
-            if (cursor.Data.equals(data)) {
+            if (Objects.equals(cursor.Data, data)) {
                 return cursor;
             }
             cursor = cursor.NextNode;
         }
         return null;
     }
+
+    /**
+     * Represents a fail-fast Iterator that walks the NextNode links of a LinkedList.
+     */
+    private class LinkedListForwardIterator implements Iterator<T> {
+        private LinkedListNode<T> nextNode = head;
+        private LinkedListNode<T> lastReturned = null;
+        private int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextNode;
+            nextNode = nextNode.NextNode;
+            return lastReturned.Data;
+        }
+
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeNode(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Represents a Spliterator over a LinkedList that splits off batches of elements copied into arrays, in the
+     * manner of the JDK's linked-list spliterators. The start node and size are bound on first use.
+     */
+    private class LinkedListSpliterator implements Spliterator<T> {
+        private static final int BatchUnit = 1 << 10;
+        private static final int MaxBatch = 1 << 25;
+
+        private LinkedListNode<T> current;
+        private int remaining = -1;
+        private int batch = 0;
+        private int expectedModCount;
+
+        private int getRemaining() {
+            if (remaining < 0) {
+                expectedModCount = modCount;
+                current = head;
+                remaining = count;
+            }
+            return remaining;
+        }
+
+        public Spliterator<T> trySplit() {
+            int left = getRemaining();
+            if (left <= 1 || current == null) return null;
+
+            int batchSize = Math.min(Math.min(batch + BatchUnit, MaxBatch), left);
+            Object[] items = new Object[batchSize];
+            LinkedListNode<T> node = current;
+            int copied = 0;
+            while (copied < batchSize && node != null) {
+                items[copied++] = node.Data;
+                node = node.NextNode;
+            }
+
+            current = node;
+            remaining = left - copied;
+            batch = copied;
+            return Spliterators.spliterator(items, 0, copied, Spliterator.ORDERED);
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (getRemaining() <= 0 || current == null) return false;
+
+            T item = current.Data;
+            current = current.NextNode;
+            remaining--;
+            action.accept(item);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int left = getRemaining();
+            for (LinkedListNode<T> node = current; left > 0 && node != null; left--) {
+                action.accept(node.Data);
+                node = node.NextNode;
+            }
+            current = null;
+            remaining = 0;
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        public long estimateSize() {
+            return getRemaining();
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package Lists;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Represents a bounded free-list of LinkedList nodes. Nodes unlinked by a LinkedList are returned to the pool and
+ * handed out again by later inserts, so churn-heavy lists stop allocating a node per insert. A pool is not
+ * thread-safe: it can be shared by several lists only if they are all used from the same thread, which is what
+ * {@link #forCurrentThread()} provides.
+ */
+public class LinkedListNodePool {
+
+    /**
+     * The number of nodes a pool keeps if none is given in the constructor of the class.
+     */
+    public static final int DefaultCapacity = 1024;
+
+    private static final ThreadLocal<LinkedListNodePool> ThreadPools = ThreadLocal.withInitial(LinkedListNodePool::new);
+
+    private LinkedListNode<?> freeHead = null;
+    private int capacity;
+    private int pooledCount = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Initializes a new instance of a LinkedListNodePool that keeps up to {@link #DefaultCapacity} nodes.
+     */
+    public LinkedListNodePool() {
+        this(DefaultCapacity);
+    }
+
+    /**
+     * Initializes a new instance of a LinkedListNodePool that keeps up to the given number of nodes.
+     *
+     * @param capacity The maximum number of free nodes the pool holds on to.
+     */
+    public LinkedListNodePool(int capacity) {
+        if (capacity < 0) {
+            throw new InvalidParameterException("The capacity of the LinkedListNodePool must be a positive number.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return Gets the pool shared by every LinkedList on the calling thread that asks for it.
+     */
+    public static LinkedListNodePool forCurrentThread() {
+        return ThreadPools.get();
+    }
+
+    /**
+     * @return Gets the maximum number of free nodes the pool holds on to.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Gets the number of free nodes currently held by the pool.
+     */
+    public int getPooledCount() {
+        return pooledCount;
+    }
+
+    /**
+     * @return Gets the number of inserts that reused a pooled node.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Gets the number of inserts that had to allocate a new node because the pool was empty.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Resets the hit and miss counters to zero.
+     */
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns a node holding the given data, reusing a pooled node when one is available.
+     */
+    <T> LinkedListNode<T> acquire(T data, LinkedListNode<T> previousNode) {
+        if (freeHead == null) {
+            misses++;
+            return new LinkedListNode<T>(data, previousNode);
+        }
+
+        LinkedListNode<T> node = (LinkedListNode<T>) freeHead;
+        freeHead = node.NextNode;
+        pooledCount--;
+        hits++;
+
+        node.NextNode = null;
+        node.PreviousNode = previousNode;
+        node.Data = data;
+        return node;
+    }
+
+    /**
+     * Clears an unlinked node and keeps it for reuse, unless the pool is already full.
+     *
+     * @return True if the node was kept; false if the pool is full.
+     */
+    <T> boolean release(LinkedListNode<T> node) {
+        if (pooledCount >= capacity) return false;
+
+        LinkedListNode<Object> freeNode = (LinkedListNode<Object>) node;
+        freeNode.Data = null;
+        freeNode.PreviousNode = null;
+        freeNode.NextNode = (LinkedListNode<Object>) freeHead;
+        freeHead = freeNode;
+        pooledCount++;
+        return true;
+    }
+}
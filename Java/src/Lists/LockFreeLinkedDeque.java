@@ -0,0 +1,333 @@
+package Lists;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Represents an unbounded, thread-safe, lock-free deque of doubly-linked nodes.
+ * <p>
+ * Both ends of the deque and a push-in-progress flag live together in one immutable anchor that is swapped with a
+ * single compare-and-set, following Michael's CAS-based deque. A push swings the anchor to the new node first and then
+ * fixes the one link that still points the wrong way; any thread that finds the anchor mid-push finishes that link
+ * before trying its own operation, so no thread ever waits on another. Elements may not be null.
+ * <p>
+ * Iterators are weakly consistent: they return every element that stays in the deque for the whole iteration exactly
+ * once, may or may not return elements added or removed meanwhile, and never throw
+ * {@link java.util.ConcurrentModificationException}. An iterator reads one element ahead, so the element returned
+ * by the next call to next() is fixed once hasNext() has returned true.
+ *
+ * @param <T> Specifies the element type of the LockFreeLinkedDeque.
+ */
+public class LockFreeLinkedDeque<T> implements Iterable<T> {
+
+    private static final int Stable = 0;
+    private static final int LeftPush = 1;
+    private static final int RightPush = 2;
+
+    private static final AtomicReferenceFieldUpdater<LockFreeLinkedDequeNode<?>, LockFreeLinkedDequeNode<?>> PreviousUpdater =
+            linkUpdater("PreviousNode");
+    private static final AtomicReferenceFieldUpdater<LockFreeLinkedDequeNode<?>, LockFreeLinkedDequeNode<?>> NextUpdater =
+            linkUpdater("NextNode");
+
+    private final AtomicReference<Anchor<T>> anchor = new AtomicReference<>(new Anchor<T>(null, null, Stable));
+
+    /**
+     * Initializes a new instance of an empty LockFreeLinkedDeque.
+     */
+    public LockFreeLinkedDeque() {
+    }
+
+    /**
+     * Inserts the given element at the front of the deque.
+     *
+     * @param item The element to add; cannot be null.
+     */
+    public void addFirst(T item) {
+        LockFreeLinkedDequeNode<T> node = newNode(item);
+        while (true) {
+            Anchor<T> current = anchor.get();
+            if (current.left == null) {
+                if (anchor.compareAndSet(current, new Anchor<T>(node, node, Stable))) return;
+            } else if (current.status == Stable) {
+                node.NextNode = current.left;
+                node.Sequence = current.left.Sequence - 1;
+                Anchor<T> pushed = new Anchor<T>(node, current.right, LeftPush);
+                if (anchor.compareAndSet(current, pushed)) {
+                    stabilizeLeft(pushed);
+                    return;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Inserts the given element at the back of the deque.
+     *
+     * @param item The element to add; cannot be null.
+     */
+    public void addLast(T item) {
+        LockFreeLinkedDequeNode<T> node = newNode(item);
+        while (true) {
+            Anchor<T> current = anchor.get();
+            if (current.right == null) {
+                if (anchor.compareAndSet(current, new Anchor<T>(node, node, Stable))) return;
+            } else if (current.status == Stable) {
+                node.PreviousNode = current.right;
+                node.Sequence = current.right.Sequence + 1;
+                Anchor<T> pushed = new Anchor<T>(current.left, node, RightPush);
+                if (anchor.compareAndSet(current, pushed)) {
+                    stabilizeRight(pushed);
+                    return;
+                }
+            } else {
+                stabilize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the deque.
+     *
+     * @return The first element, or null if the deque is empty.
+     */
+    public T pollFirst() {
+        while (true) {
+            Anchor<T> current = anchor.get();
+            LockFreeLinkedDequeNode<T> first = current.left;
+            if (first == null) return null;
+
+            if (current.status != Stable) {
+                stabilize(current);
+            } else if (first == current.right) {
+                if (anchor.compareAndSet(current, new Anchor<T>(null, null, Stable))) return take(first);
+            } else {
+                LockFreeLinkedDequeNode<T> next = first.NextNode;
+                if (anchor.compareAndSet(current, new Anchor<T>(next, current.right, Stable))) {
+                    PreviousUpdater.compareAndSet(next, first, null);
+                    return take(first);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the back of the deque.
+     *
+     * @return The last element, or null if the deque is empty.
+     */
+    public T pollLast() {
+        while (true) {
+            Anchor<T> current = anchor.get();
+            LockFreeLinkedDequeNode<T> last = current.right;
+            if (last == null) return null;
+
+            if (current.status != Stable) {
+                stabilize(current);
+            } else if (last == current.left) {
+                if (anchor.compareAndSet(current, new Anchor<T>(null, null, Stable))) return take(last);
+            } else {
+                LockFreeLinkedDequeNode<T> previous = last.PreviousNode;
+                if (anchor.compareAndSet(current, new Anchor<T>(current.left, previous, Stable))) {
+                    NextUpdater.compareAndSet(previous, last, null);
+                    return take(last);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Gets the element at the front of the deque without removing it, or null if the deque is empty.
+     */
+    public T peekFirst() {
+        while (true) {
+            LockFreeLinkedDequeNode<T> first = anchor.get().left;
+            if (first == null) return null;
+
+            T item = first.Data;
+            if (item != null) return item;
+        }
+    }
+
+    /**
+     * @return Gets the element at the back of the deque without removing it, or null if the deque is empty.
+     */
+    public T peekLast() {
+        while (true) {
+            LockFreeLinkedDequeNode<T> last = anchor.get().right;
+            if (last == null) return null;
+
+            T item = last.Data;
+            if (item != null) return item;
+        }
+    }
+
+    /**
+     * @return Gets whether the deque held no elements at the moment of the call.
+     */
+    public boolean isEmpty() {
+        return anchor.get().left == null;
+    }
+
+    /**
+     * Counts the elements by walking the deque. Under concurrent updates the result is only an estimate.
+     *
+     * @return Gets the number of elements in the deque.
+     */
+    public int size() {
+        int count = 0;
+        for (T ignored : this) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a weakly-consistent iterator from the front of the deque to the back. The iterator does not support
+     * removal.
+     *
+     * @return an iterator over the elements in this deque
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LockFreeLinkedDequeIterator();
+    }
+
+    private LockFreeLinkedDequeNode<T> newNode(T item) {
+        if (item == null) {
+            throw new NullPointerException("The LockFreeLinkedDeque does not permit null elements.");
+        }
+        return new LockFreeLinkedDequeNode<T>(item);
+    }
+
+    /**
+     * Clears the data of a node whose removal has been published, so that iterators still holding the node skip it.
+     */
+    private T take(LockFreeLinkedDequeNode<T> node) {
+        T item = node.Data;
+        node.Data = null;
+        return item;
+    }
+
+    /**
+     * Completes the push recorded in the given anchor, if it is still current.
+     */
+    private void stabilize(Anchor<T> current) {
+        if (current.status == RightPush) {
+            stabilizeRight(current);
+        } else {
+            stabilizeLeft(current);
+        }
+    }
+
+    /**
+     * Points the second node's previous link at the node just pushed to the front, then marks the anchor stable.
+     */
+    private void stabilizeLeft(Anchor<T> current) {
+        LockFreeLinkedDequeNode<T> next = current.left.NextNode;
+        if (anchor.get() != current) return;
+
+        LockFreeLinkedDequeNode<T> nextPrevious = next.PreviousNode;
+        if (nextPrevious != current.left) {
+            if (anchor.get() != current) return;
+            if (!PreviousUpdater.compareAndSet(next, nextPrevious, current.left)) return;
+        }
+        anchor.compareAndSet(current, new Anchor<T>(current.left, current.right, Stable));
+    }
+
+    /**
+     * Points the second-to-last node's next link at the node just pushed to the back, then marks the anchor stable.
+     */
+    private void stabilizeRight(Anchor<T> current) {
+        LockFreeLinkedDequeNode<T> previous = current.right.PreviousNode;
+        if (anchor.get() != current) return;
+
+        LockFreeLinkedDequeNode<T> previousNext = previous.NextNode;
+        if (previousNext != current.right) {
+            if (anchor.get() != current) return;
+            if (!NextUpdater.compareAndSet(previous, previousNext, current.right)) return;
+        }
+        anchor.compareAndSet(current, new Anchor<T>(current.left, current.right, Stable));
+    }
+
+    /**
+     * Creates an updater for one of a node's link fields. The class literal can only name the raw node type, so the
+     * updater is cast once here to work on nodes of any element type.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static AtomicReferenceFieldUpdater<LockFreeLinkedDequeNode<?>, LockFreeLinkedDequeNode<?>> linkUpdater(String fieldName) {
+        return (AtomicReferenceFieldUpdater) AtomicReferenceFieldUpdater.newUpdater(LockFreeLinkedDequeNode.class, LockFreeLinkedDequeNode.class, fieldName);
+    }
+
+    /**
+     * Represents an immutable snapshot of both ends of the deque and whether a push is still being linked in.
+     */
+    private static final class Anchor<T> {
+        final LockFreeLinkedDequeNode<T> left;
+        final LockFreeLinkedDequeNode<T> right;
+        final int status;
+
+        Anchor(LockFreeLinkedDequeNode<T> left, LockFreeLinkedDequeNode<T> right, int status) {
+            this.left = left;
+            this.right = right;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Represents a weakly-consistent iterator over a LockFreeLinkedDeque. It walks next links from the front of a
+     * stable anchor and stops at that anchor's back node. Every next link leads to a node whose sequence number is one
+     * higher, so the walk also stops once it passes the back node's sequence number, even if that node was removed
+     * and its link re-pointed at a newer node.
+     */
+    private class LockFreeLinkedDequeIterator implements Iterator<T> {
+        private LockFreeLinkedDequeNode<T> nextNode;
+        private T nextItem;
+        private final long lastSequence;
+
+        LockFreeLinkedDequeIterator() {
+            Anchor<T> current = anchor.get();
+            while (current.status != Stable) {
+                stabilize(current);
+                current = anchor.get();
+            }
+
+            nextNode = current.left;
+            lastSequence = current.right != null ? current.right.Sequence : 0;
+            advance();
+        }
+
+        public boolean hasNext() {
+            return nextItem != null;
+        }
+
+        public T next() {
+            if (nextItem == null) {
+                throw new NoSuchElementException();
+            }
+
+            T item = nextItem;
+            advance();
+            return item;
+        }
+
+        /**
+         * Moves to the next node that still holds an element, leaving that element in nextItem.
+         */
+        private void advance() {
+            nextItem = null;
+            while (nextNode != null && nextItem == null) {
+                LockFreeLinkedDequeNode<T> node = nextNode;
+                nextItem = node.Data;
+
+                LockFreeLinkedDequeNode<T> following = node.NextNode;
+                nextNode = node.Sequence < lastSequence && following != null && following.Sequence <= lastSequence
+                        ? following
+                        : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package Lists;
+
+class LockFreeLinkedDequeNode<T> {
+    public volatile LockFreeLinkedDequeNode<T> PreviousNode = null;
+    public volatile LockFreeLinkedDequeNode<T> NextNode = null;
+    public volatile T Data;
+    public long Sequence = 0;
+
+    public LockFreeLinkedDequeNode(T data) {
+        Data = data;
+    }
+}
@@ -0,0 +1,614 @@
+package Lists;
+
+import java.security.InvalidParameterException;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * Implements the IList interface for long values using a primitive array whose size is dynamically increased as required.
+ * Elements are stored unboxed, the long-specific accessors ({@link #getLong(int)}, {@link #addLong(long)}, ...) never
+ * allocate, while the {@link List} methods box on the way in and out.
+ */
+public class LongArrayList implements List<Long> {
+
+    /**
+     * The initial capacity of the LongArrayList if none is given in the constructor of the class.
+     */
+    public final int InitCapacity = 4;
+
+    private int arrayTail = -1;
+    private long[] backingArray;
+    private int modCount = 0;
+
+    /**
+     * Initializes a new instance of an LongArrayList that is empty and has the default initial capacity.
+     */
+    public LongArrayList() {
+        backingArray = new long[InitCapacity];
+        arrayTail = -1;
+    }
+
+    /**
+     * Initializes a new instance of an LongArrayList that is empty and has the specified initial capacity.
+     *
+     * @param capacity The initial number of elements that the LongArrayList can contain.
+     */
+    public LongArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new InvalidParameterException("The capacity of the LongArrayList must be initialized as a positive number.");
+        }
+
+        backingArray = new long[capacity];
+        arrayTail = -1;
+    }
+
+    /**
+     * Returns the number of elements the LongArrayList can hold before requiring to resize.
+     * @return the capacity of the LongArrayList.
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return arrayTail + 1;
+    }
+
+    /**
+     * @return <tt>true</tt> if this list contains no elements
+     */
+    @Override
+    public boolean isEmpty() {
+        return arrayTail == -1;
+    }
+
+    /**
+     * Returns the long at the specified position in this list without boxing it.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return backingArray[index];
+    }
+
+    /**
+     * Replaces the long at the specified position in this list without boxing it.
+     *
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    public long setLong(int index, long element) {
+        checkIndex(index);
+        long prevValue = backingArray[index];
+        backingArray[index] = element;
+        return prevValue;
+    }
+
+    /**
+     * Appends the specified long to the end of this list without boxing it.
+     *
+     * @param element element to be appended to this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     */
+    public boolean addLong(long element) {
+        resize();
+        backingArray[arrayTail] = element;
+        return true;
+    }
+
+    /**
+     * Inserts the specified long at the specified position in this list without boxing it. Shifts the element
+     * currently at that position (if any) and any subsequent elements to the right.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    public void addLong(int index, long element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LongArrayList.", index));
+        }
+
+        resize();
+        System.arraycopy(backingArray, index, backingArray, index + 1, arrayTail - index);
+        backingArray[index] = element;
+    }
+
+    /**
+     * Removes the long at the specified position in this list and returns it without boxing it.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    public long removeLong(int index) {
+        checkIndex(index);
+
+        long removeValue = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index, arrayTail - index);
+        arrayTail--;
+        modCount++;
+        return removeValue;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified long in this list, or -1 if it is not present.
+     *
+     * @param element element to search for
+     * @return the index of the first occurrence of the element, or -1 if this list does not contain it
+     */
+    public int indexOfLong(long element) {
+        for (int i = 0; i <= arrayTail; i++) {
+            if (backingArray[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified long in this list, or -1 if it is not present.
+     *
+     * @param element element to search for
+     * @return the index of the last occurrence of the element, or -1 if this list does not contain it
+     */
+    public int lastIndexOfLong(long element) {
+        for (int i = arrayTail; i >= 0; i--) {
+            if (backingArray[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns <tt>true</tt> if this list contains the specified long.
+     *
+     * @param element element whose presence in this list is to be tested
+     * @return <tt>true</tt> if this list contains the specified element
+     */
+    public boolean containsLong(long element) {
+        return indexOfLong(element) != -1;
+    }
+
+    /**
+     * Copies the elements of the LongArrayList to a new long array.
+     *
+     * @return A new array containing the elements of this list in proper sequence.
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(backingArray, size());
+    }
+
+    /**
+     * Returns an unboxed iterator over the elements in this list in proper sequence.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    public PrimitiveIterator.OfLong longIterator() {
+        return new LongArrayListIterator(0);
+    }
+
+    /**
+     * @param o element whose presence in this list is to be tested
+     * @return <tt>true</tt> if this list contains the specified element
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    /**
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    @Override
+    public Iterator<Long> iterator() {
+        return new LongArrayListIterator(0);
+    }
+
+    /**
+     * @return an array containing all of the elements in this list in proper sequence
+     */
+    @Override
+    public Object[] toArray() {
+        Long[] returnArray = new Long[size()];
+        for (int i = 0; i <= arrayTail; i++) {
+            returnArray[i] = backingArray[i];
+        }
+        return returnArray;
+    }
+
+    /**
+     * @param a the array into which the elements of this list are to be stored, if it is big enough; otherwise, a
+     *          new array of the same runtime type is allocated for this purpose.
+     * @return an array containing the elements of this list
+     */
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        if (a.length < size()) {
+            a = Arrays.copyOf(a, size());
+        }
+
+        for (int i = 0; i <= arrayTail; i++) {
+            a[i] = (T1) Long.valueOf(backingArray[i]);
+        }
+
+        if (a.length > size()) {
+            a[size()] = null;
+        }
+        return a;
+    }
+
+    /**
+     * @param element element to be appended to this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean add(Long element) {
+        return addLong(element);
+    }
+
+    /**
+     * @param o element to be removed from this list, if present
+     * @return <tt>true</tt> if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        int indexToRemove = indexOf(o);
+        if (indexToRemove == -1) return false;
+
+        removeLong(indexToRemove);
+        return true;
+    }
+
+    /**
+     * @param c collection to be checked for containment in this list
+     * @return <tt>true</tt> if this list contains all of the elements of the specified collection
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param c collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection contains a null element
+     */
+    @Override
+    public boolean addAll(Collection<? extends Long> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * @param index index at which to insert the first element from the specified collection
+     * @param c     collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException      if the specified collection contains a null element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends Long> c) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LongArrayList.", index));
+        }
+
+        Object[] items = c.toArray();
+        long[] values = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            values[i] = (Long) items[i];
+        }
+        if (values.length == 0) return false;
+
+        int newSize = size() + values.length;
+        if (newSize > backingArray.length) {
+            backingArray = Arrays.copyOf(backingArray, Math.max(backingArray.length * 2, newSize));
+        }
+        System.arraycopy(backingArray, index, backingArray, index + values.length, size() - index);
+        System.arraycopy(values, 0, backingArray, index, values.length);
+        arrayTail += values.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * @param c collection containing elements to be removed from this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    /**
+     * @param c collection containing elements to be retained in this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty after this call returns.
+     */
+    @Override
+    public void clear() {
+        arrayTail = -1;
+        modCount++;
+    }
+
+    /**
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * @param index   index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws NullPointerException      if the specified element is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public Long set(int index, Long element) {
+        return setLong(index, element);
+    }
+
+    /**
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws NullPointerException      if the specified element is null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public void add(int index, Long element) {
+        addLong(index, element);
+    }
+
+    /**
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *                                   (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    /**
+     * @param o element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not
+     * contain the element
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Long)) return -1;
+
+        return indexOfLong((Long) o);
+    }
+
+    /**
+     * @param o element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not
+     * contain the element
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!(o instanceof Long)) return -1;
+
+        return lastIndexOfLong((Long) o);
+    }
+
+    /**
+     * @return a list iterator over the elements in this list (in proper sequence)
+     */
+    @Override
+    public ListIterator<Long> listIterator() {
+        return new LongArrayListIterator(0);
+    }
+
+    /**
+     * @param index index of the first element to be returned from the list iterator
+     * @return a list iterator over the elements in this list (in proper sequence), starting at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index > size()})
+     */
+    @Override
+    public ListIterator<Long> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LongArrayList.", index));
+        }
+        return new LongArrayListIterator(index);
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified <tt>fromIndex</tt>, inclusive, and
+     * <tt>toIndex</tt>, exclusive. The view reads and writes through to this list, boxing on the way, and fails fast
+     * once this list is structurally modified other than through the view.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     *                                   (<tt>fromIndex &lt; 0 || toIndex &gt; size ||
+     *                                   fromIndex &gt; toIndex</tt>)
+     */
+    @Override
+    public List<Long> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the LongArrayList.", fromIndex));
+        } else if (toIndex > size()) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the LongArrayList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+
+        return new SubListView<>(this, () -> modCount, fromIndex, toIndex);
+    }
+
+    /**
+     * Keeps the elements that are (retain) or are not (!retain) in the given collection, compacting them towards the
+     * front of the backing array in a single pass. The collection is unboxed once into a sorted array, so each element
+     * is probed by binary search instead of being boxed for {@link Collection#contains}.
+     */
+    private boolean batchRemove(Collection<?> c, boolean retain) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        long[] lookup = new long[c.size()];
+        int lookupCount = 0;
+        for (Object item : c) {
+            if (item instanceof Long) {
+                lookup[lookupCount++] = (Long) item;
+            }
+        }
+        Arrays.sort(lookup, 0, lookupCount);
+
+        int writeIndex = 0;
+        for (int readIndex = 0; readIndex <= arrayTail; readIndex++) {
+            long item = backingArray[readIndex];
+            if ((Arrays.binarySearch(lookup, 0, lookupCount, item) >= 0) == retain) {
+                backingArray[writeIndex++] = item;
+            }
+        }
+        if (writeIndex == size()) return false;
+
+        arrayTail = writeIndex - 1;
+        modCount++;
+        return true;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > arrayTail) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the LongArrayList.", index));
+        }
+    }
+
+    /**
+     * Checks if the LongArrayList needs to be resized. If resized, it doubles the size of the backing array.
+     */
+    private void resize() {
+        arrayTail++;
+        modCount++;
+        if (arrayTail < backingArray.length) return;
+
+        backingArray = Arrays.copyOf(backingArray, Math.max(backingArray.length * 2, InitCapacity));
+    }
+
+    /**
+     * Represents an unboxed ListIterator designed to traverse an LongArrayList.
+     */
+    private class LongArrayListIterator implements PrimitiveIterator.OfLong, ListIterator<Long> {
+        private int nextIndex;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        LongArrayListIterator(int startIndex) {
+            nextIndex = startIndex;
+        }
+
+        public boolean hasNext() {
+            return nextIndex <= arrayTail;
+        }
+
+        public long nextLong() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextIndex++;
+            return backingArray[lastReturned];
+        }
+
+        public Long next() {
+            return nextLong();
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public Long previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --nextIndex;
+            return backingArray[lastReturned];
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            removeLong(lastReturned);
+            nextIndex = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        public void set(Long element) {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            setLong(lastReturned, element);
+        }
+
+        public void add(Long element) {
+            checkForComodification();
+            addLong(nextIndex++, element);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
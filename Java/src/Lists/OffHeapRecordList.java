@@ -0,0 +1,581 @@
+package Lists;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.InvalidParameterException;
+import java.util.AbstractList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Represents a list of fixed-width records stored contiguously outside of the Java heap in a direct ByteBuffer.
+ * Records are described by a {@link RecordLayout} and read or written field by field through typed accessors, so
+ * millions of records cost no object headers and put no pressure on the garbage collector. The native memory is
+ * released by {@link #close()}; the list cannot be used afterwards.
+ */
+public class OffHeapRecordList implements AutoCloseable {
+
+    /**
+     * The initial capacity, in records, of the OffHeapRecordList if none is given in the constructor of the class.
+     */
+    public final int InitCapacity = 16;
+
+    private RecordLayout layout;
+    private int recordSize;
+    private GrowthPolicy growthPolicy;
+    private ByteBuffer buffer;
+    private int count = 0;
+
+    /**
+     * Initializes a new instance of an OffHeapRecordList that is empty and has the default initial capacity.
+     *
+     * @param layout The layout of the records the OffHeapRecordList will store.
+     */
+    public OffHeapRecordList(RecordLayout layout) {
+        initialize(layout, InitCapacity);
+    }
+
+    /**
+     * Initializes a new instance of an OffHeapRecordList that is empty and has the specified initial capacity.
+     *
+     * @param layout   The layout of the records the OffHeapRecordList will store.
+     * @param capacity The initial number of records that the OffHeapRecordList can contain.
+     */
+    public OffHeapRecordList(RecordLayout layout, int capacity) {
+        initialize(layout, capacity);
+    }
+
+    /**
+     * Initializes a new instance of an empty OffHeapRecordList over the given buffer, which must hold a whole number
+     * of records.
+     */
+    private OffHeapRecordList(RecordLayout layout, ByteBuffer buffer) {
+        this.layout = layout;
+        recordSize = layout.recordSize();
+        growthPolicy = GrowthPolicy.capped(GrowthPolicy.doubling(), Integer.MAX_VALUE / recordSize);
+        this.buffer = buffer;
+    }
+
+    private void initialize(RecordLayout layout, int capacity) {
+        if (layout == null) {
+            throw new NullPointerException("The record layout cannot be null.");
+        }
+
+        int maxCapacity = Integer.MAX_VALUE / layout.recordSize();
+        if (capacity < 0 || capacity > maxCapacity) {
+            throw new InvalidParameterException(format("The capacity of the OffHeapRecordList must be between 0 and %d.", maxCapacity));
+        }
+
+        this.layout = layout;
+        recordSize = layout.recordSize();
+        growthPolicy = GrowthPolicy.capped(GrowthPolicy.doubling(), maxCapacity);
+        buffer = allocate(capacity);
+    }
+
+    /**
+     * @return Gets the layout of the records stored in the OffHeapRecordList.
+     */
+    public RecordLayout layout() {
+        return layout;
+    }
+
+    /**
+     * @return Gets the number of records in the OffHeapRecordList.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return Gets a value indicating whether the OffHeapRecordList has any records within it.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return Gets the number of records the OffHeapRecordList can hold before requiring to resize.
+     */
+    public int capacity() {
+        return checkOpen().capacity() / recordSize;
+    }
+
+    /**
+     * @return Gets a value indicating whether the native memory of the OffHeapRecordList has been released.
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * Appends a new record whose fields are all zero.
+     *
+     * @return The index of the new record.
+     */
+    public int addRecord() {
+        ensureCapacity(count + 1);
+
+        int offset = count * recordSize;
+        int i = 0;
+        for (; i + Long.BYTES <= recordSize; i += Long.BYTES) {
+            buffer.putLong(offset + i, 0L);
+        }
+        for (; i < recordSize; i++) {
+            buffer.put(offset + i, (byte) 0);
+        }
+        return count++;
+    }
+
+    /**
+     * Removes the record at the specified index, shifting any subsequent records to the left.
+     *
+     * @param index The index of the record to remove.
+     */
+    public void removeRecord(int index) {
+        checkRecord(index);
+
+        moveBytes((index + 1) * recordSize, index * recordSize, (count - index - 1) * recordSize);
+        count--;
+    }
+
+    /**
+     * Removes all records from the OffHeapRecordList. The native memory is kept for reuse.
+     */
+    public void clear() {
+        checkOpen();
+        count = 0;
+    }
+
+    /**
+     * Increases the capacity of the OffHeapRecordList, if necessary, so that it can hold at least the specified
+     * number of records without resizing again.
+     *
+     * @param minCapacity The minimum number of records the OffHeapRecordList must be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = capacity();
+        if (minCapacity <= capacity) return;
+
+        ByteBuffer newBuffer = allocate(growthPolicy.grow(capacity, minCapacity));
+        ByteBuffer used = buffer.duplicate();
+        used.position(0).limit(count * recordSize);
+        newBuffer.put(used);
+
+        free(buffer);
+        buffer = newBuffer;
+    }
+
+    /**
+     * Releases the native memory held by the OffHeapRecordList. Any later access throws an IllegalStateException.
+     */
+    @Override
+    public void close() {
+        if (buffer == null) return;
+
+        free(buffer);
+        buffer = null;
+        count = 0;
+    }
+
+    /**
+     * Returns the byte stored in the given field of the record at the specified index.
+     */
+    public byte getByte(int index, int field) {
+        return buffer.get(fieldOffset(index, field, RecordLayout.FieldType.BYTE));
+    }
+
+    /**
+     * Stores a byte in the given field of the record at the specified index.
+     */
+    public void setByte(int index, int field, byte value) {
+        buffer.put(fieldOffset(index, field, RecordLayout.FieldType.BYTE), value);
+    }
+
+    /**
+     * Returns the short stored in the given field of the record at the specified index.
+     */
+    public short getShort(int index, int field) {
+        return buffer.getShort(fieldOffset(index, field, RecordLayout.FieldType.SHORT));
+    }
+
+    /**
+     * Stores a short in the given field of the record at the specified index.
+     */
+    public void setShort(int index, int field, short value) {
+        buffer.putShort(fieldOffset(index, field, RecordLayout.FieldType.SHORT), value);
+    }
+
+    /**
+     * Returns the int stored in the given field of the record at the specified index.
+     */
+    public int getInt(int index, int field) {
+        return buffer.getInt(fieldOffset(index, field, RecordLayout.FieldType.INT));
+    }
+
+    /**
+     * Stores an int in the given field of the record at the specified index.
+     */
+    public void setInt(int index, int field, int value) {
+        buffer.putInt(fieldOffset(index, field, RecordLayout.FieldType.INT), value);
+    }
+
+    /**
+     * Returns the long stored in the given field of the record at the specified index.
+     */
+    public long getLong(int index, int field) {
+        return buffer.getLong(fieldOffset(index, field, RecordLayout.FieldType.LONG));
+    }
+
+    /**
+     * Stores a long in the given field of the record at the specified index.
+     */
+    public void setLong(int index, int field, long value) {
+        buffer.putLong(fieldOffset(index, field, RecordLayout.FieldType.LONG), value);
+    }
+
+    /**
+     * Returns the float stored in the given field of the record at the specified index.
+     */
+    public float getFloat(int index, int field) {
+        return buffer.getFloat(fieldOffset(index, field, RecordLayout.FieldType.FLOAT));
+    }
+
+    /**
+     * Stores a float in the given field of the record at the specified index.
+     */
+    public void setFloat(int index, int field, float value) {
+        buffer.putFloat(fieldOffset(index, field, RecordLayout.FieldType.FLOAT), value);
+    }
+
+    /**
+     * Returns the double stored in the given field of the record at the specified index.
+     */
+    public double getDouble(int index, int field) {
+        return buffer.getDouble(fieldOffset(index, field, RecordLayout.FieldType.DOUBLE));
+    }
+
+    /**
+     * Stores a double in the given field of the record at the specified index.
+     */
+    public void setDouble(int index, int field, double value) {
+        buffer.putDouble(fieldOffset(index, field, RecordLayout.FieldType.DOUBLE), value);
+    }
+
+    /**
+     * Returns a flyweight positioned on the record at the specified index. The flyweight holds no data of its own
+     * and can be moved to other records with {@link Record#moveTo(int)}, so a single instance can scan the whole list.
+     *
+     * @param index The index of the record.
+     * @return A flyweight over the record.
+     */
+    public Record record(int index) {
+        checkRecord(index);
+        return new Record(index);
+    }
+
+    /**
+     * Returns a List view of the records. Elements are flyweights over the native memory: adding a record copies
+     * its fields into a new slot, setting one overwrites the fields of the target slot, and two records are equal
+     * when their bytes are equal. Since a replaced or removed record's memory is immediately reused, set and remove
+     * return a detached copy of the old record held on the Java heap, which needs no closing. Iterators of the view
+     * fail fast on structural changes made through the view.
+     *
+     * @return A List view backed by the OffHeapRecordList.
+     */
+    public List<Record> asList() {
+        return new RecordListView();
+    }
+
+    /**
+     * Represents a movable view of a single record of the OffHeapRecordList.
+     */
+    public final class Record {
+        private int index;
+
+        Record(int index) {
+            this.index = index;
+        }
+
+        /**
+         * @return Gets the index of the record this flyweight is positioned on.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Repositions the flyweight on another record.
+         *
+         * @param index The index of the record.
+         * @return This flyweight.
+         */
+        public Record moveTo(int index) {
+            checkRecord(index);
+            this.index = index;
+            return this;
+        }
+
+        public byte getByte(int field) {
+            return OffHeapRecordList.this.getByte(index, field);
+        }
+
+        public void setByte(int field, byte value) {
+            OffHeapRecordList.this.setByte(index, field, value);
+        }
+
+        public short getShort(int field) {
+            return OffHeapRecordList.this.getShort(index, field);
+        }
+
+        public void setShort(int field, short value) {
+            OffHeapRecordList.this.setShort(index, field, value);
+        }
+
+        public int getInt(int field) {
+            return OffHeapRecordList.this.getInt(index, field);
+        }
+
+        public void setInt(int field, int value) {
+            OffHeapRecordList.this.setInt(index, field, value);
+        }
+
+        public long getLong(int field) {
+            return OffHeapRecordList.this.getLong(index, field);
+        }
+
+        public void setLong(int field, long value) {
+            OffHeapRecordList.this.setLong(index, field, value);
+        }
+
+        public float getFloat(int field) {
+            return OffHeapRecordList.this.getFloat(index, field);
+        }
+
+        public void setFloat(int field, float value) {
+            OffHeapRecordList.this.setFloat(index, field, value);
+        }
+
+        public double getDouble(int field) {
+            return OffHeapRecordList.this.getDouble(index, field);
+        }
+
+        public void setDouble(int field, double value) {
+            OffHeapRecordList.this.setDouble(index, field, value);
+        }
+
+        private OffHeapRecordList owner() {
+            return OffHeapRecordList.this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Record)) return false;
+
+            Record other = (Record) o;
+            if (!layout.equals(other.owner().layout)) return false;
+
+            ByteBuffer bytes = checkOpen();
+            ByteBuffer otherBytes = other.owner().checkOpen();
+            int offset = index * recordSize;
+            int otherOffset = other.index * recordSize;
+            int i = 0;
+            for (; i + Long.BYTES <= recordSize; i += Long.BYTES) {
+                if (bytes.getLong(offset + i) != otherBytes.getLong(otherOffset + i)) {
+                    return false;
+                }
+            }
+            for (; i < recordSize; i++) {
+                if (bytes.get(offset + i) != otherBytes.get(otherOffset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            ByteBuffer bytes = checkOpen();
+            int offset = index * recordSize;
+            int hash = 1;
+            int i = 0;
+            for (; i + Long.BYTES <= recordSize; i += Long.BYTES) {
+                hash = 31 * hash + Long.hashCode(bytes.getLong(offset + i));
+            }
+            for (; i < recordSize; i++) {
+                hash = 31 * hash + bytes.get(offset + i);
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Represents the List view returned by {@link #asList()}.
+     */
+    private class RecordListView extends AbstractList<Record> {
+        @Override
+        public int size() {
+            return count;
+        }
+
+        @Override
+        public Record get(int index) {
+            return record(index);
+        }
+
+        @Override
+        public Record set(int index, Record element) {
+            checkRecord(index);
+            Record prevValue = detachedCopy(index);
+            copyRecord(element, index);
+            return prevValue;
+        }
+
+        @Override
+        public void add(int index, Record element) {
+            if (index < 0 || index > count) {
+                throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the OffHeapRecordList.", index));
+            }
+            if (!layout.equals(element.owner().layout)) {
+                throw new IllegalArgumentException("The record does not share the layout of the OffHeapRecordList.");
+            }
+
+            Record source = element;
+            if (element.owner() == OffHeapRecordList.this && element.index >= index) {
+                source = new Record(element.index + 1);
+            }
+
+            ensureCapacity(count + 1);
+            moveBytes(index * recordSize, (index + 1) * recordSize, (count - index) * recordSize);
+            count++;
+            modCount++;
+            copyRecord(source, index);
+        }
+
+        @Override
+        public Record remove(int index) {
+            checkRecord(index);
+            Record removeValue = detachedCopy(index);
+            removeRecord(index);
+            modCount++;
+            return removeValue;
+        }
+
+        @Override
+        public void clear() {
+            OffHeapRecordList.this.clear();
+            modCount++;
+        }
+    }
+
+    /**
+     * Copies the record at the specified index into a new one-record OffHeapRecordList on the Java heap, so the copy
+     * keeps its value after the slot is reused and is released by the garbage collector.
+     */
+    private Record detachedCopy(int index) {
+        OffHeapRecordList copy = new OffHeapRecordList(layout, ByteBuffer.allocate(recordSize).order(ByteOrder.nativeOrder()));
+        copy.count = 1;
+        copy.copyRecord(new Record(index), 0);
+        return copy.new Record(0);
+    }
+
+    private void copyRecord(Record source, int targetIndex) {
+        if (!layout.equals(source.owner().layout)) {
+            throw new IllegalArgumentException("The record does not share the layout of the OffHeapRecordList.");
+        }
+
+        ByteBuffer sourceBuffer = source.owner().checkOpen();
+        int sourceOffset = source.index * recordSize;
+        int targetOffset = targetIndex * recordSize;
+        if (sourceBuffer == buffer) {
+            moveBytes(sourceOffset, targetOffset, recordSize);
+            return;
+        }
+
+        ByteBuffer sourceRecord = sourceBuffer.duplicate();
+        sourceRecord.limit(sourceOffset + recordSize).position(sourceOffset);
+        ByteBuffer target = buffer.duplicate();
+        target.position(targetOffset);
+        target.put(sourceRecord);
+    }
+
+    /**
+     * Copies length bytes within the buffer, choosing the copy direction so overlapping ranges are handled.
+     */
+    private void moveBytes(int from, int to, int length) {
+        if (length <= 0 || from == to) return;
+
+        ByteBuffer bytes = checkOpen();
+        if (to < from) {
+            int i = 0;
+            for (; i + Long.BYTES <= length; i += Long.BYTES) {
+                bytes.putLong(to + i, bytes.getLong(from + i));
+            }
+            for (; i < length; i++) {
+                bytes.put(to + i, bytes.get(from + i));
+            }
+        } else {
+            int i = length;
+            for (; i >= Long.BYTES; i -= Long.BYTES) {
+                bytes.putLong(to + i - Long.BYTES, bytes.getLong(from + i - Long.BYTES));
+            }
+            for (; i > 0; i--) {
+                bytes.put(to + i - 1, bytes.get(from + i - 1));
+            }
+        }
+    }
+
+    private int fieldOffset(int index, int field, RecordLayout.FieldType type) {
+        checkRecord(index);
+        return index * recordSize + layout.checkedOffset(field, type);
+    }
+
+    private void checkRecord(int index) {
+        checkOpen();
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the OffHeapRecordList.", index));
+        }
+    }
+
+    private ByteBuffer checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("The OffHeapRecordList has been closed.");
+        }
+        return buffer;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * recordSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Releases the native memory of a direct buffer right away instead of waiting for the garbage collector. Uses
+     * Unsafe.invokeCleaner on Java 9+ and the buffer's cleaner on Java 8; if neither is reachable the memory is
+     * released when the buffer is collected.
+     */
+    private static void free(ByteBuffer directBuffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(theUnsafe.get(null), directBuffer);
+            return;
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Not running on Java 9+; fall through to the Java 8 cleaner.
+        }
+
+        try {
+            Method cleanerMethod = directBuffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(directBuffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // The garbage collector will release the memory instead.
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package Lists;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Describes the fixed-width layout of a record stored by an {@link OffHeapRecordList}. Fields are packed one after
+ * another in the order they are given and are addressed by their zero-based position.
+ */
+public final class RecordLayout {
+
+    /**
+     * The primitive types a record field can hold, with their width in bytes.
+     */
+    public enum FieldType {
+        BYTE(1), SHORT(2), INT(4), LONG(8), FLOAT(4), DOUBLE(8);
+
+        private final int byteSize;
+
+        FieldType(int byteSize) {
+            this.byteSize = byteSize;
+        }
+
+        /**
+         * @return Gets the number of bytes a field of this type occupies.
+         */
+        public int byteSize() {
+            return byteSize;
+        }
+    }
+
+    private final FieldType[] fieldTypes;
+    private final int[] fieldOffsets;
+    private final int recordSize;
+
+    /**
+     * Initializes a new instance of a RecordLayout with the given fields.
+     *
+     * @param fieldTypes The types of the fields of the record, in the order they are stored.
+     */
+    public RecordLayout(FieldType... fieldTypes) {
+        if (fieldTypes == null || fieldTypes.length == 0) {
+            throw new InvalidParameterException("A RecordLayout must contain at least one field.");
+        }
+
+        this.fieldTypes = fieldTypes.clone();
+        fieldOffsets = new int[fieldTypes.length];
+
+        int offset = 0;
+        for (int i = 0; i < fieldTypes.length; i++) {
+            if (fieldTypes[i] == null) {
+                throw new NullPointerException(format("The type of field %d cannot be null.", i));
+            }
+            fieldOffsets[i] = offset;
+            offset += fieldTypes[i].byteSize();
+        }
+        recordSize = offset;
+    }
+
+    /**
+     * @return Gets the number of bytes a single record occupies.
+     */
+    public int recordSize() {
+        return recordSize;
+    }
+
+    /**
+     * @return Gets the number of fields of a record.
+     */
+    public int fieldCount() {
+        return fieldTypes.length;
+    }
+
+    /**
+     * @param field The zero-based position of the field.
+     * @return Gets the type of the field.
+     */
+    public FieldType typeOf(int field) {
+        return fieldTypes[field];
+    }
+
+    /**
+     * @param field The zero-based position of the field.
+     * @return Gets the byte offset of the field from the start of a record.
+     */
+    public int offsetOf(int field) {
+        return fieldOffsets[field];
+    }
+
+    /**
+     * Returns the byte offset of the field, checking that it holds the expected type.
+     */
+    int checkedOffset(int field, FieldType expectedType) {
+        if (field < 0 || field >= fieldTypes.length) {
+            throw new IndexOutOfBoundsException(format("The field, %d, is out of the bounds of the RecordLayout.", field));
+        }
+        if (fieldTypes[field] != expectedType) {
+            throw new IllegalArgumentException(format("The field, %d, holds a %s, not a %s.", field, fieldTypes[field], expectedType));
+        }
+        return fieldOffsets[field];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RecordLayout && Arrays.equals(fieldTypes, ((RecordLayout) o).fieldTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(fieldTypes);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(fieldTypes);
+    }
+}
@@ -0,0 +1,660 @@
+package Lists;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+import static java.lang.String.format;
+
+/**
+ * Implements the IList interface using a sorted array whose size is dynamically increased as required. Elements are
+ * kept in the order given by a Comparator (or their natural ordering), so lookups are binary searches and range
+ * queries return views without copying. Positional inserts and replacements would break the ordering and are not
+ * supported; null elements are not permitted.
+ *
+ * @param <T> Specifies the element type of the SortedArrayList.
+ */
+public class SortedArrayList<T> implements List<T> {
+
+    /**
+     * The initial capacity of the SortedArrayList if none is given in the constructor of the class.
+     */
+    public final int InitCapacity = 4;
+
+    /**
+     * The number of elements above which bulk loads are sorted with {@link Arrays#parallelSort}.
+     */
+    public static final int ParallelSortThreshold = 1 << 13;
+
+    /**
+     * The size above which removeAll and retainAll copy their argument into a HashSet before probing it.
+     */
+    private static final int HashLookupThreshold = 16;
+
+    private Class<T> nodeClassType;
+    private Comparator<? super T> comparator;
+    private GrowthPolicy growthPolicy;
+    private int arrayTail = -1;
+    private T[] backingArray;
+    private int modCount = 0;
+
+    /**
+     * Initializes a new instance of a SortedArrayList that is empty and orders its elements with the given comparator.
+     *
+     * @param itemType   The class-type of the items the SortedArrayList will store.
+     * @param comparator The comparator that orders the elements, or null to use their natural ordering.
+     */
+    public SortedArrayList(Class<T> itemType, Comparator<? super T> comparator) {
+        backingArray = (T[]) Array.newInstance(itemType, InitCapacity);
+        nodeClassType = itemType;
+        this.comparator = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        growthPolicy = GrowthPolicy.doubling();
+        arrayTail = -1;
+    }
+
+    /**
+     * Initializes a new instance of a SortedArrayList that contains the elements of the specified collection, sorted
+     * in parallel when there are more than {@link #ParallelSortThreshold} of them.
+     *
+     * @param itemType   The class-type of the items the SortedArrayList will store.
+     * @param comparator The comparator that orders the elements, or null to use their natural ordering.
+     * @param items      The elements to load into the SortedArrayList.
+     */
+    public SortedArrayList(Class<T> itemType, Comparator<? super T> comparator, Collection<? extends T> items) {
+        this(itemType, comparator);
+        if (items == null) {
+            throw new NullPointerException("The collection to load cannot be null.");
+        }
+
+        T[] loaded = toSortedArray(items);
+        backingArray = loaded.length >= InitCapacity ? loaded : Arrays.copyOf(loaded, InitCapacity);
+        arrayTail = loaded.length - 1;
+    }
+
+    /**
+     * @return Gets the comparator that orders the elements of the SortedArrayList.
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the number of elements the SortedArrayList can hold before requiring to resize.
+     * @return the capacity of the SortedArrayList.
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
+    @Override
+    public int size() {
+        return arrayTail + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return arrayTail == -1;
+    }
+
+    /**
+     * Returns <tt>true</tt> if this list contains an element that compares equal to the specified element. Runs in
+     * O(log n).
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return <tt>true</tt> if this list contains the specified element
+     * @throws ClassCastException if the type of the specified element cannot be compared with the elements of the list
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    /**
+     * Returns the index of the first element that compares equal to the specified element, or -1 if there is none.
+     * Runs in O(log n).
+     *
+     * @param o element to search for
+     * @return the index of the first occurrence of the specified element, or -1 if this list does not contain it
+     * @throws ClassCastException if the type of the specified element cannot be compared with the elements of the list
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (o == null) return -1;
+
+        T item = (T) o;
+        int index = lowerBound(item);
+        return index < size() && comparator.compare(backingArray[index], item) == 0 ? index : -1;
+    }
+
+    /**
+     * Returns the index of the last element that compares equal to the specified element, or -1 if there is none.
+     * Runs in O(log n).
+     *
+     * @param o element to search for
+     * @return the index of the last occurrence of the specified element, or -1 if this list does not contain it
+     * @throws ClassCastException if the type of the specified element cannot be compared with the elements of the list
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o == null) return -1;
+
+        T item = (T) o;
+        int index = upperBound(item) - 1;
+        return index >= 0 && comparator.compare(backingArray[index], item) == 0 ? index : -1;
+    }
+
+    /**
+     * Inserts the specified element at its sorted position, after any elements that compare equal to it.
+     *
+     * @param t element to be inserted into this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     * @throws NullPointerException if the specified element is null
+     */
+    @Override
+    public boolean add(T t) {
+        if (t == null) {
+            throw new NullPointerException("The SortedArrayList does not permit null elements.");
+        }
+
+        int index = upperBound(t);
+        ensureCapacity(size() + 1);
+        System.arraycopy(backingArray, index, backingArray, index + 1, size() - index);
+        backingArray[index] = t;
+        arrayTail++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Merges the elements of the specified collection into this list. The new elements are sorted (in parallel when
+     * there are many of them) and then merged from the back of the backing array in a single linear pass, so the
+     * cost is O(m log m + n) instead of m separate inserts.
+     *
+     * @param c collection containing elements to be merged into this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null or contains a null element
+     */
+    public boolean mergeSorted(Collection<? extends T> c) {
+        T[] incoming = toSortedArray(c);
+        int incomingCount = incoming.length;
+        if (incomingCount == 0) return false;
+
+        ensureCapacity(size() + incomingCount);
+
+        int readIndex = arrayTail;
+        int incomingIndex = incomingCount - 1;
+        int writeIndex = arrayTail + incomingCount;
+        while (incomingIndex >= 0) {
+            if (readIndex >= 0 && comparator.compare(backingArray[readIndex], incoming[incomingIndex]) > 0) {
+                backingArray[writeIndex--] = backingArray[readIndex--];
+            } else {
+                backingArray[writeIndex--] = incoming[incomingIndex--];
+            }
+        }
+
+        arrayTail += incomingCount;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Merges all of the elements in the specified collection into this list. Equivalent to {@link #mergeSorted}.
+     *
+     * @param c collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null or contains a null element
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return mergeSorted(c);
+    }
+
+    /**
+     * Not supported, since inserting at an arbitrary position would break the ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        throw new UnsupportedOperationException("The SortedArrayList does not support positional inserts.");
+    }
+
+    /**
+     * Not supported, since inserting at an arbitrary position would break the ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("The SortedArrayList does not support positional inserts.");
+    }
+
+    /**
+     * Not supported, since replacing an element could break the ordering.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("The SortedArrayList does not support replacing elements.");
+    }
+
+    /**
+     * Removes the first element that compares equal to the specified element, if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return <tt>true</tt> if this list contained the specified element
+     */
+    @Override
+    public boolean remove(Object o) {
+        int indexToRemove = indexOf(o);
+        if (indexToRemove == -1) return false;
+
+        remove(indexToRemove);
+        return true;
+    }
+
+    @Override
+    public T remove(int index) {
+        checkIndex(index);
+
+        T removeValue = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index, arrayTail - index);
+        backingArray[arrayTail] = null;
+        arrayTail--;
+        modCount++;
+        return removeValue;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection, in a single pass
+     * that keeps the survivors in order.
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection, in a single pass that
+     * keeps the survivors in order.
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(backingArray, 0, size(), null);
+        arrayTail = -1;
+        modCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return backingArray[index];
+    }
+
+    /**
+     * @return Gets the smallest element of the SortedArrayList.
+     * @throws NoSuchElementException if the SortedArrayList is empty
+     */
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The SortedArrayList is empty.");
+        }
+        return backingArray[0];
+    }
+
+    /**
+     * @return Gets the largest element of the SortedArrayList.
+     * @throws NoSuchElementException if the SortedArrayList is empty
+     */
+    public T last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The SortedArrayList is empty.");
+        }
+        return backingArray[arrayTail];
+    }
+
+    /**
+     * Returns a read-only view of the elements strictly less than toElement. Runs in O(log n).
+     *
+     * @param toElement high endpoint (exclusive) of the returned view
+     * @return a view of the elements strictly less than toElement
+     */
+    public List<T> headList(T toElement) {
+        return new RangeView(0, lowerBound(toElement));
+    }
+
+    /**
+     * Returns a read-only view of the elements greater than or equal to fromElement. Runs in O(log n).
+     *
+     * @param fromElement low endpoint (inclusive) of the returned view
+     * @return a view of the elements greater than or equal to fromElement
+     */
+    public List<T> tailList(T fromElement) {
+        return new RangeView(lowerBound(fromElement), size());
+    }
+
+    /**
+     * Returns a read-only view of the elements from fromElement, inclusive, to toElement, exclusive. Runs in O(log n).
+     *
+     * @param fromElement low endpoint (inclusive) of the returned view
+     * @param toElement   high endpoint (exclusive) of the returned view
+     * @return a view of the elements in the given range
+     * @throws IllegalArgumentException if fromElement is greater than toElement
+     */
+    public List<T> between(T fromElement, T toElement) {
+        if (comparator.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("The from-element must not come after the to-element.");
+        }
+        return new RangeView(lowerBound(fromElement), lowerBound(toElement));
+    }
+
+    /**
+     * Returns a read-only view of the portion of this list between the specified fromIndex, inclusive, and toIndex,
+     * exclusive.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the SortedArrayList.", fromIndex));
+        } else if (toIndex > size()) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the SortedArrayList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+        return new RangeView(fromIndex, toIndex);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SortedArrayListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new SortedArrayListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the SortedArrayList.", index));
+        }
+        return new SortedArrayListIterator(index);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(backingArray, size());
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        if (a.length < size()) {
+            return (T1[]) Arrays.copyOf(backingArray, size(), a.getClass());
+        }
+
+        System.arraycopy(backingArray, 0, a, 0, size());
+        if (a.length > size()) {
+            a[size()] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Increases the capacity of the SortedArrayList, if necessary, so that it can hold at least the specified number
+     * of elements without resizing again.
+     *
+     * @param minCapacity The minimum number of elements the SortedArrayList must be able to hold.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= backingArray.length) return;
+
+        T[] newBackingArray = (T[]) Array.newInstance(nodeClassType, growthPolicy.grow(backingArray.length, minCapacity));
+        System.arraycopy(backingArray, 0, newBackingArray, 0, size());
+        backingArray = newBackingArray;
+    }
+
+    /**
+     * Returns the index of the first element that is not less than the given element.
+     */
+    private int lowerBound(T item) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(backingArray[mid], item) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element that is greater than the given element.
+     */
+    private int upperBound(T item) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(backingArray[mid], item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Copies the collection into a new array of the element type and sorts it, in parallel for large collections.
+     */
+    private T[] toSortedArray(Collection<? extends T> c) {
+        Object[] items = c.toArray();
+        T[] sorted = (T[]) Array.newInstance(nodeClassType, items.length);
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == null) {
+                throw new NullPointerException("The SortedArrayList does not permit null elements.");
+            }
+            sorted[i] = (T) items[i];
+        }
+
+        if (sorted.length > ParallelSortThreshold) {
+            Arrays.parallelSort(sorted, comparator);
+        } else {
+            Arrays.sort(sorted, comparator);
+        }
+        return sorted;
+    }
+
+    /**
+     * Removes the elements contained (or, if retain is true, not contained) in the given collection in a single
+     * pass, shifting the survivors down once. Large collections that are not already sets are copied into a
+     * HashSet first so each probe is O(1) instead of a linear scan.
+     */
+    private boolean batchRemove(Collection<?> c, boolean retain) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Collection<?> lookup = c;
+        if (!(c instanceof Set) && c.size() > HashLookupThreshold) {
+            lookup = new HashSet<>(c);
+        }
+
+        int readIndex = 0;
+        int writeIndex = 0;
+        try {
+            for (; readIndex < size(); readIndex++) {
+                T item = backingArray[readIndex];
+                if (lookup.contains(item) == retain) {
+                    backingArray[writeIndex++] = item;
+                }
+            }
+        } finally {
+            compact(readIndex, writeIndex);
+        }
+        return writeIndex != readIndex;
+    }
+
+    /**
+     * Finishes an in-place compaction: keeps any elements that were not yet visited, clears the freed slots at the
+     * end of the backing array so they can be garbage-collected and updates the size.
+     */
+    private void compact(int readIndex, int writeIndex) {
+        if (readIndex < size()) {
+            System.arraycopy(backingArray, readIndex, backingArray, writeIndex, size() - readIndex);
+            writeIndex += size() - readIndex;
+        }
+        if (writeIndex == size()) return;
+
+        Arrays.fill(backingArray, writeIndex, size(), null);
+        arrayTail = writeIndex - 1;
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > arrayTail) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the SortedArrayList.", index));
+        }
+    }
+
+    /**
+     * Represents a read-only view of a range of the SortedArrayList.
+     */
+    private class RangeView extends AbstractList<T> {
+        private final int offset;
+        private final int length;
+        private final int expectedModCount;
+
+        RangeView(int fromIndex, int toIndex) {
+            offset = fromIndex;
+            length = toIndex - fromIndex;
+            expectedModCount = SortedArrayList.this.modCount;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return length;
+        }
+
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the range.", index));
+            }
+            return backingArray[offset + index];
+        }
+
+        private void checkForComodification() {
+            if (SortedArrayList.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Represents a fail-fast ListIterator over the SortedArrayList. Elements can be removed but not added or replaced.
+     */
+    private class SortedArrayListIterator implements ListIterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        SortedArrayListIterator(int startIndex) {
+            cursor = startIndex;
+        }
+
+        public boolean hasNext() {
+            return cursor <= arrayTail;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (cursor > arrayTail) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return backingArray[lastReturned];
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --cursor;
+            return backingArray[lastReturned];
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            SortedArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        public void set(T t) {
+            throw new UnsupportedOperationException("The SortedArrayList does not support replacing elements.");
+        }
+
+        public void add(T t) {
+            throw new UnsupportedOperationException("The SortedArrayList does not support positional inserts.");
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package Lists;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static java.lang.String.format;
+
+/**
+ * Represents a live view of a range of a list that reads and writes through the list's own indexed get, set, add and
+ * remove. Lists that gain nothing from a range view of their own share this one instead of each declaring a copy.
+ * <p>
+ * The view is fail-fast: it remembers the parent's modification count and throws a
+ * {@link ConcurrentModificationException} once the parent has been structurally modified other than through the view
+ * or one of its own sub-lists.
+ *
+ * @param <T> Specifies the element type of the viewed list.
+ */
+class SubListView<T> extends AbstractList<T> {
+    private final List<T> parent;
+    private final IntSupplier parentModCount;
+    private final SubListView<T> parentView;
+    private final int offset;
+    private int length;
+    private int expectedModCount;
+
+    /**
+     * Initializes a new instance of a view of the range [fromIndex, toIndex) of the given list.
+     *
+     * @param parent         The list to view.
+     * @param parentModCount Reads the list's current modification count.
+     * @param fromIndex      The index of the first element of the view.
+     * @param toIndex        The index after the last element of the view.
+     */
+    SubListView(List<T> parent, IntSupplier parentModCount, int fromIndex, int toIndex) {
+        this(parent, parentModCount, null, fromIndex, toIndex - fromIndex);
+    }
+
+    private SubListView(List<T> parent, IntSupplier parentModCount, SubListView<T> parentView, int offset, int length) {
+        this.parent = parent;
+        this.parentModCount = parentModCount;
+        this.parentView = parentView;
+        this.offset = offset;
+        this.length = length;
+        expectedModCount = parentModCount.getAsInt();
+    }
+
+    /**
+     * Checks the endpoints of a sub-list of a list with the given size.
+     *
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     */
+    static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the list.", fromIndex));
+        } else if (toIndex > size) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the list.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return length;
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        checkIndex(index, length);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkForComodification();
+        checkIndex(index, length);
+        T prevValue = parent.set(offset + index, element);
+        updateLength(0);
+        return prevValue;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkForComodification();
+        checkIndex(index, length + 1);
+        parent.add(offset + index, element);
+        updateLength(1);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkForComodification();
+        checkIndex(index, length);
+        T removeValue = parent.remove(offset + index);
+        updateLength(-1);
+        return removeValue;
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+        checkRange(fromIndex, toIndex, length);
+        return new SubListView<>(parent, parentModCount, this, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Applies a change in length to this view and every view it was taken from, and adopts the parent's new
+     * modification count.
+     */
+    private void updateLength(int delta) {
+        int parentCount = parentModCount.getAsInt();
+        for (SubListView<T> view = this; view != null; view = view.parentView) {
+            view.length += delta;
+            view.expectedModCount = parentCount;
+            if (delta != 0) {
+                view.modCount++;
+            }
+        }
+    }
+
+    private void checkForComodification() {
+        if (parentModCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the sub-list.", index));
+        }
+    }
+}
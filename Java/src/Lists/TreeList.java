@@ -0,0 +1,561 @@
+package Lists;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
+/**
+ * Represents a list stored in an AVL tree ordered by position rather than by value. Every node records the size of
+ * its subtree, so the node at an index is found by comparing the index with the size of the left subtree on the way
+ * down. get, set, add(index) and remove(index) therefore take O(log n) time wherever the index falls, at the cost of
+ * a larger node and a slower sequential scan than an ArrayList.
+ *
+ * @param <T> Specifies the element type of the TreeList.
+ */
+public class TreeList<T> implements List<T> {
+
+    /**
+     * Bulk inserts smaller than this fraction of the list are inserted one element at a time; larger ones rebuild the
+     * tree from an array in linear time.
+     */
+    private static final int BulkRebuildDivisor = 8;
+
+    private TreeListNode<T> root = null;
+    private Class<T> nodeClassType;
+    private int modCount = 0;
+
+    /**
+     * Initializes a new instance of an empty TreeList.
+     *
+     * @param classType The class-type of the items the TreeList will store.
+     */
+    public TreeList(Class<T> classType) {
+        nodeClassType = classType;
+    }
+
+    /**
+     * Initializes a new instance of a TreeList holding the elements of the given collection, in the order returned by
+     * its iterator. The tree is built balanced in a single pass.
+     *
+     * @param classType The class-type of the items the TreeList will store.
+     * @param c         The collection whose elements are placed into the TreeList.
+     */
+    public TreeList(Class<T> classType, Collection<? extends T> c) {
+        this(classType);
+        Object[] items = c.toArray();
+        root = build(items, 0, items.length);
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean add(T t) {
+        add(size(), t);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list in O(log n) time.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public void add(int index, T element) {
+        checkPositionIndex(index);
+
+        root = insert(root, index, element);
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list in O(log n) time.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public T remove(int index) {
+        T removeValue = getNodeAt(index).Data;
+        root = delete(root, index);
+        modCount++;
+        return removeValue;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int indexToRemove = indexOf(o);
+        if (indexToRemove == -1) return false;
+
+        remove(indexToRemove);
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        return getNodeAt(index).Data;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        TreeListNode<T> node = getNodeAt(index);
+        T prevValue = node.Data;
+        node.Data = element;
+        return prevValue;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        TreeListIterator iterator = new TreeListIterator(0);
+        while (iterator.hasNext()) {
+            if (Objects.equals(iterator.next(), o)) {
+                return iterator.previousIndex();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] items = toArray();
+        for (int i = items.length - 1; i >= 0; i--) {
+            if (Objects.equals(items[i], o)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return addAll(size(), c);
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this list at the specified position. Small
+     * collections are inserted one element at a time; a collection that is large compared to this list is merged in
+     * by rebuilding the tree, which takes linear time.
+     *
+     * @param index index at which to insert the first element from the specified collection
+     * @param c     collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        checkPositionIndex(index);
+
+        Object[] added = c.toArray();
+        if (added.length == 0) return false;
+
+        int count = size();
+        if (added.length < count / BulkRebuildDivisor) {
+            for (Object item : added) {
+                root = insert(root, index++, (T) item);
+            }
+        } else {
+            Object[] items = new Object[count + added.length];
+            copyTo(root, items, 0);
+            System.arraycopy(items, index, items, index + added.length, count - index);
+            System.arraycopy(added, 0, items, index, added.length);
+            root = build(items, 0, items.length);
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(item -> !c.contains(item));
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate, then rebuilds the tree from the
+     * survivors in linear time.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        Object[] items = toArray();
+        int survivors = 0;
+        for (Object item : items) {
+            if (!filter.test((T) item)) {
+                items[survivors++] = item;
+            }
+        }
+        if (survivors == items.length) return false;
+
+        root = build(items, 0, survivors);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new TreeListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkPositionIndex(index);
+        return new TreeListIterator(index);
+    }
+
+    @Override
+    public Object[] toArray() {
+        T[] retArray = (T[]) Array.newInstance(nodeClassType, size());
+        copyTo(root, retArray, 0);
+        return retArray;
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        int count = size();
+        if (a.length < count) {
+            a = (T1[]) Array.newInstance(a.getClass().getComponentType(), count);
+        }
+
+        copyTo(root, a, 0);
+        if (a.length > count) {
+            a[count] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * The view reads and writes through to this list, and fails fast once this list is structurally modified other
+     * than through the view.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the TreeList.", fromIndex));
+        } else if (toIndex > size()) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the TreeList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+        return new SubListView<>(this, () -> modCount, fromIndex, toIndex);
+    }
+
+    /**
+     * @return Gets the height of the tree, which stays within about 1.44 log2(n).
+     */
+    public int height() {
+        return height(root);
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the TreeList.", index));
+        }
+    }
+
+    private TreeListNode<T> getNodeAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the TreeList.", index));
+        }
+
+        TreeListNode<T> node = root;
+        while (true) {
+            int leftSize = size(node.Left);
+            if (index < leftSize) {
+                node = node.Left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.Right;
+            }
+        }
+    }
+
+    private TreeListNode<T> insert(TreeListNode<T> node, int index, T element) {
+        if (node == null) {
+            return new TreeListNode<T>(element);
+        }
+
+        int leftSize = size(node.Left);
+        if (index <= leftSize) {
+            node.Left = insert(node.Left, index, element);
+        } else {
+            node.Right = insert(node.Right, index - leftSize - 1, element);
+        }
+        return rebalance(node);
+    }
+
+    private TreeListNode<T> delete(TreeListNode<T> node, int index) {
+        int leftSize = size(node.Left);
+        if (index < leftSize) {
+            node.Left = delete(node.Left, index);
+        } else if (index > leftSize) {
+            node.Right = delete(node.Right, index - leftSize - 1);
+        } else {
+            if (node.Left == null) return node.Right;
+            if (node.Right == null) return node.Left;
+
+            TreeListNode<T> successor = node.Right;
+            while (successor.Left != null) {
+                successor = successor.Left;
+            }
+            node.Data = successor.Data;
+            node.Right = delete(node.Right, 0);
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Builds a balanced tree over the given range of elements.
+     */
+    private TreeListNode<T> build(Object[] items, int from, int to) {
+        if (from >= to) return null;
+
+        int mid = (from + to) >>> 1;
+        TreeListNode<T> node = new TreeListNode<T>((T) items[mid]);
+        node.Left = build(items, from, mid);
+        node.Right = build(items, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    /**
+     * Restores the AVL invariant at the given node after one of its subtrees changed height by at most one.
+     */
+    private TreeListNode<T> rebalance(TreeListNode<T> node) {
+        update(node);
+        int balance = height(node.Left) - height(node.Right);
+        if (balance > 1) {
+            if (height(node.Left.Left) < height(node.Left.Right)) {
+                node.Left = rotateLeft(node.Left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.Right.Right) < height(node.Right.Left)) {
+                node.Right = rotateRight(node.Right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private TreeListNode<T> rotateRight(TreeListNode<T> node) {
+        TreeListNode<T> pivot = node.Left;
+        node.Left = pivot.Right;
+        pivot.Right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private TreeListNode<T> rotateLeft(TreeListNode<T> node) {
+        TreeListNode<T> pivot = node.Right;
+        node.Right = pivot.Left;
+        pivot.Left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(TreeListNode<?> node) {
+        node.Height = Math.max(height(node.Left), height(node.Right)) + 1;
+        node.Size = size(node.Left) + size(node.Right) + 1;
+    }
+
+    private static int height(TreeListNode<?> node) {
+        return node == null ? 0 : node.Height;
+    }
+
+    private static int size(TreeListNode<?> node) {
+        return node == null ? 0 : node.Size;
+    }
+
+    /**
+     * Copies the elements of the given subtree into the array in order, starting at the given position.
+     *
+     * @return The position after the last element copied.
+     */
+    private static int copyTo(TreeListNode<?> node, Object[] array, int position) {
+        while (node != null) {
+            position = copyTo(node.Left, array, position);
+            array[position++] = node.Data;
+            node = node.Right;
+        }
+        return position;
+    }
+
+    /**
+     * Represents a fail-fast ListIterator over a TreeList. The cursor keeps the path of ancestors still to be visited,
+     * so walking forwards costs amortized O(1) per element; stepping backwards or modifying the list re-seeks the path
+     * in O(log n).
+     */
+    private class TreeListIterator implements ListIterator<T> {
+        private final ArrayDeque<TreeListNode<T>> path = new ArrayDeque<>();
+        private TreeListNode<T> lastNode = null;
+        private int nextIndex;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        TreeListIterator(int startIndex) {
+            seek(startIndex);
+        }
+
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        public T next() {
+            checkForComodification();
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            TreeListNode<T> node = path.pop();
+            for (TreeListNode<T> child = node.Right; child != null; child = child.Left) {
+                path.push(child);
+            }
+            lastNode = node;
+            lastReturned = nextIndex++;
+            return node.Data;
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (nextIndex <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            seek(nextIndex - 1);
+            lastNode = path.peek();
+            lastReturned = nextIndex;
+            return lastNode.Data;
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            TreeList.this.remove(lastReturned);
+            seek(lastReturned);
+            lastNode = null;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        public void set(T t) {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            lastNode.Data = t;
+        }
+
+        public void add(T t) {
+            checkForComodification();
+
+            TreeList.this.add(nextIndex, t);
+            seek(nextIndex + 1);
+            lastNode = null;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Positions the cursor in front of the element at the given index by pushing every node on the way down
+         * whose element comes at or after that index.
+         */
+        private void seek(int index) {
+            nextIndex = index;
+            path.clear();
+
+            TreeListNode<T> node = root;
+            while (node != null) {
+                int leftSize = size(node.Left);
+                if (index <= leftSize) {
+                    path.push(node);
+                    if (index == leftSize) break;
+                    node = node.Left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.Right;
+                }
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package Lists;
+
+class TreeListNode<T> {
+    public TreeListNode<T> Left = null;
+    public TreeListNode<T> Right = null;
+    public T Data;
+    public int Height = 1;
+    public int Size = 1;
+
+    public TreeListNode(T data) {
+        Data = data;
+    }
+}
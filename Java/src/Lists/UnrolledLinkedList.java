@@ -0,0 +1,633 @@
+package Lists;
+
+import java.lang.reflect.Array;
+import java.security.InvalidParameterException;
+import java.util.*;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+
+/**
+ * Represents a doubly-linked list whose nodes each hold a small array of elements. Scans touch one node per block of
+ * elements instead of one per element, while inserts and removals in the middle only shift the elements of a single
+ * node. A full node is split in half on insert, and a node that drops below half full is merged with its successor or
+ * refilled from it.
+ *
+ * @param <T> Specifies the element type of the UnrolledLinkedList.
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+
+    /**
+     * The number of elements a node holds if none is given in the constructor of the class.
+     */
+    public static final int DefaultNodeCapacity = 32;
+
+    private UnrolledLinkedListNode<T> head = null;
+    private UnrolledLinkedListNode<T> tail = null;
+    private Class<T> nodeClassType;
+    private int nodeCapacity;
+    private int count = 0;
+    private int modCount = 0;
+
+    /**
+     * The offset within the node returned by the last call to {@link #getNodeAt(int)}.
+     */
+    private int foundOffset = 0;
+
+    /**
+     * Initializes a new instance of an UnrolledLinkedList whose nodes hold {@link #DefaultNodeCapacity} elements.
+     *
+     * @param classType The class-type of the items the UnrolledLinkedList will store.
+     */
+    public UnrolledLinkedList(Class<T> classType) {
+        this(classType, DefaultNodeCapacity);
+    }
+
+    /**
+     * Initializes a new instance of an UnrolledLinkedList whose nodes hold the given number of elements.
+     *
+     * @param classType    The class-type of the items the UnrolledLinkedList will store.
+     * @param nodeCapacity The number of elements each node holds; at least 2.
+     */
+    public UnrolledLinkedList(Class<T> classType, int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new InvalidParameterException("The node capacity of the UnrolledLinkedList must be at least 2.");
+        }
+
+        nodeClassType = classType;
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * @return Gets the number of elements each node holds.
+     */
+    public int nodeCapacity() {
+        return nodeCapacity;
+    }
+
+    /**
+     * @return Gets the number of nodes currently linked into the list.
+     */
+    public int nodeCount() {
+        int nodes = 0;
+        for (UnrolledLinkedListNode<T> node = head; node != null; node = node.NextNode) {
+            nodes++;
+        }
+        return nodes;
+    }
+
+    /**
+     * @return Gets the value of the first element within the UnrolledLinkedList.
+     */
+    public T getFirst() {
+        if (head == null) return null;
+
+        return head.Items[0];
+    }
+
+    /**
+     * @return Gets the value of the last element within the UnrolledLinkedList.
+     */
+    public T getLast() {
+        if (tail == null) return null;
+
+        return tail.Items[tail.Count - 1];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean add(T t) {
+        if (tail == null || tail.Count == nodeCapacity) {
+            linkAfter(tail, newNode());
+        }
+
+        tail.Items[tail.Count++] = t;
+        count++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Only the elements of the target node are
+     * shifted; if that node is full it is split in half first.
+     *
+     * @param index   index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt; size()</tt>)
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the UnrolledLinkedList.", index));
+        }
+        if (index == count) {
+            add(element);
+            return;
+        }
+
+        UnrolledLinkedListNode<T> node = getNodeAt(index);
+        int offset = foundOffset;
+        if (node.Count == nodeCapacity) {
+            UnrolledLinkedListNode<T> upperHalf = split(node);
+            if (offset > node.Count) {
+                offset -= node.Count;
+                node = upperHalf;
+            }
+        }
+
+        System.arraycopy(node.Items, offset, node.Items, offset + 1, node.Count - offset);
+        node.Items[offset] = element;
+        node.Count++;
+        count++;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list. A node left less than half full is merged with
+     * or refilled from its successor, and an emptied node is unlinked.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+    @Override
+    public T remove(int index) {
+        UnrolledLinkedListNode<T> node = getNodeAt(index);
+        int offset = foundOffset;
+
+        T removeValue = node.Items[offset];
+        System.arraycopy(node.Items, offset + 1, node.Items, offset, node.Count - offset - 1);
+        node.Items[--node.Count] = null;
+        count--;
+        modCount++;
+
+        rebalance(node);
+        return removeValue;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int indexToRemove = indexOf(o);
+        if (indexToRemove == -1) return false;
+
+        remove(indexToRemove);
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        UnrolledLinkedListNode<T> node = getNodeAt(index);
+        return node.Items[foundOffset];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        UnrolledLinkedListNode<T> node = getNodeAt(index);
+        T prevValue = node.Items[foundOffset];
+        node.Items[foundOffset] = element;
+        return prevValue;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (UnrolledLinkedListNode<T> node = head; node != null; node = node.NextNode) {
+            for (int i = 0; i < node.Count; i++) {
+                if (Objects.equals(node.Items[i], o)) {
+                    return index + i;
+                }
+            }
+            index += node.Count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int index = count;
+        for (UnrolledLinkedListNode<T> node = tail; node != null; node = node.PreviousNode) {
+            index -= node.Count;
+            for (int i = node.Count - 1; i >= 0; i--) {
+                if (Objects.equals(node.Items[i], o)) {
+                    return index + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        for (T item : c) {
+            add(item);
+        }
+        return !c.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the UnrolledLinkedList.", index));
+        }
+
+        for (T item : c) {
+            add(index++, item);
+        }
+        return !c.isEmpty();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeIf(item -> !c.contains(item));
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate. The filter is evaluated for every
+     * element before anything is moved, so a filter that matches nothing or throws leaves the list untouched; a
+     * second pass then packs the survivors into as few nodes as possible and unlinks the rest.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        long[] removed = new long[(count + 63) >>> 6];
+        int removedCount = 0;
+        int index = 0;
+        for (UnrolledLinkedListNode<T> node = head; node != null; node = node.NextNode) {
+            for (int i = 0; i < node.Count; i++, index++) {
+                if (filter.test(node.Items[i])) {
+                    removed[index >>> 6] |= 1L << index;
+                    removedCount++;
+                }
+            }
+        }
+        if (removedCount == 0) return false;
+
+        if (removedCount == count) {
+            clear();
+            return true;
+        }
+
+        UnrolledLinkedListNode<T> writeNode = head;
+        int writeOffset = 0;
+        index = 0;
+        for (UnrolledLinkedListNode<T> node = head; node != null; node = node.NextNode) {
+            int nodeCount = node.Count;
+            for (int i = 0; i < nodeCount; i++, index++) {
+                if ((removed[index >>> 6] & (1L << index)) != 0) continue;
+
+                if (writeOffset == nodeCapacity) {
+                    writeNode.Count = nodeCapacity;
+                    writeNode = writeNode.NextNode;
+                    writeOffset = 0;
+                }
+                writeNode.Items[writeOffset++] = node.Items[i];
+            }
+        }
+
+        Arrays.fill(writeNode.Items, writeOffset, nodeCapacity, null);
+        writeNode.Count = writeOffset;
+        writeNode.NextNode = null;
+        tail = writeNode;
+        count -= removedCount;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        count = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new UnrolledLinkedListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the UnrolledLinkedList.", index));
+        }
+        return new UnrolledLinkedListIterator(index);
+    }
+
+    @Override
+    public Object[] toArray() {
+        T[] retArray = (T[]) Array.newInstance(nodeClassType, count);
+        copyTo(retArray);
+        return retArray;
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        if (a.length < count) {
+            a = (T1[]) Array.newInstance(a.getClass().getComponentType(), count);
+        }
+
+        copyTo(a);
+        if (a.length > count) {
+            a[count] = null;
+        }
+        return a;
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * The view reads and writes through to this list, and fails fast once this list is structurally modified other
+     * than through the view.
+     *
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex   high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException for an illegal endpoint index value
+     */
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, is out of the bounds of the UnrolledLinkedList.", fromIndex));
+        } else if (toIndex > count) {
+            throw new IndexOutOfBoundsException(format("The to-index, %d, is out of the bounds of the UnrolledLinkedList.", toIndex));
+        } else if (fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(format("The from-index, %d, must come before the to-index, %d.", fromIndex, toIndex));
+        }
+        return new SubListView<>(this, () -> modCount, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the node holding the element at the given index, walking from whichever end of the list is closer.
+     * The offset of the element within the node is left in {@link #foundOffset}.
+     */
+    private UnrolledLinkedListNode<T> getNodeAt(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(format("The index, %d, is out of the bounds of the UnrolledLinkedList.", index));
+        }
+
+        if (index < count / 2) {
+            UnrolledLinkedListNode<T> cursor = head;
+            while (index >= cursor.Count) {
+                index -= cursor.Count;
+                cursor = cursor.NextNode;
+            }
+            foundOffset = index;
+            return cursor;
+        }
+
+        UnrolledLinkedListNode<T> cursor = tail;
+        int remaining = count - index;
+        while (remaining > cursor.Count) {
+            remaining -= cursor.Count;
+            cursor = cursor.PreviousNode;
+        }
+        foundOffset = cursor.Count - remaining;
+        return cursor;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked right after it.
+     */
+    private UnrolledLinkedListNode<T> split(UnrolledLinkedListNode<T> node) {
+        UnrolledLinkedListNode<T> upperHalf = newNode();
+        int keep = node.Count / 2;
+        int move = node.Count - keep;
+
+        System.arraycopy(node.Items, keep, upperHalf.Items, 0, move);
+        Arrays.fill(node.Items, keep, node.Count, null);
+        node.Count = keep;
+        upperHalf.Count = move;
+
+        linkAfter(node, upperHalf);
+        return upperHalf;
+    }
+
+    /**
+     * Unlinks an emptied node. A node that is less than half full is merged with its successor when both fit in one
+     * node, and otherwise borrows elements from the front of its successor until both are about evenly filled.
+     */
+    private void rebalance(UnrolledLinkedListNode<T> node) {
+        if (node.Count == 0) {
+            unlink(node);
+            return;
+        }
+        if (node.Count >= nodeCapacity / 2) return;
+
+        UnrolledLinkedListNode<T> next = node.NextNode;
+        if (next == null) return;
+
+        if (node.Count + next.Count <= nodeCapacity) {
+            System.arraycopy(next.Items, 0, node.Items, node.Count, next.Count);
+            node.Count += next.Count;
+            unlink(next);
+            return;
+        }
+
+        int borrowed = (next.Count - node.Count) / 2;
+        System.arraycopy(next.Items, 0, node.Items, node.Count, borrowed);
+        System.arraycopy(next.Items, borrowed, next.Items, 0, next.Count - borrowed);
+        Arrays.fill(next.Items, next.Count - borrowed, next.Count, null);
+        node.Count += borrowed;
+        next.Count -= borrowed;
+    }
+
+    private UnrolledLinkedListNode<T> newNode() {
+        return new UnrolledLinkedListNode<T>((T[]) Array.newInstance(nodeClassType, nodeCapacity), null);
+    }
+
+    /**
+     * Links a new node after the given node, or as the only node if the given node is null.
+     */
+    private void linkAfter(UnrolledLinkedListNode<T> node, UnrolledLinkedListNode<T> newNode) {
+        newNode.PreviousNode = node;
+        if (node == null) {
+            head = newNode;
+            tail = newNode;
+            return;
+        }
+
+        newNode.NextNode = node.NextNode;
+        if (node.NextNode != null) {
+            node.NextNode.PreviousNode = newNode;
+        } else {
+            tail = newNode;
+        }
+        node.NextNode = newNode;
+    }
+
+    private void unlink(UnrolledLinkedListNode<T> node) {
+        if (node.PreviousNode == null) {
+            head = node.NextNode;
+        } else {
+            node.PreviousNode.NextNode = node.NextNode;
+        }
+
+        if (node.NextNode == null) {
+            tail = node.PreviousNode;
+        } else {
+            node.NextNode.PreviousNode = node.PreviousNode;
+        }
+    }
+
+    private void copyTo(Object[] array) {
+        int copied = 0;
+        for (UnrolledLinkedListNode<T> node = head; node != null; node = node.NextNode) {
+            System.arraycopy(node.Items, 0, array, copied, node.Count);
+            copied += node.Count;
+        }
+    }
+
+    /**
+     * Represents a fail-fast ListIterator that walks the nodes of an UnrolledLinkedList, moving through the elements
+     * of one node before following its link.
+     */
+    private class UnrolledLinkedListIterator implements ListIterator<T> {
+        private UnrolledLinkedListNode<T> node;
+        private int offset;
+        private int nextIndex;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        UnrolledLinkedListIterator(int startIndex) {
+            seek(startIndex);
+        }
+
+        public boolean hasNext() {
+            return nextIndex < count;
+        }
+
+        public T next() {
+            checkForComodification();
+            if (nextIndex >= count) {
+                throw new NoSuchElementException();
+            }
+
+            if (offset == node.Count) {
+                node = node.NextNode;
+                offset = 0;
+            }
+            lastReturned = nextIndex++;
+            return node.Items[offset++];
+        }
+
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        public T previous() {
+            checkForComodification();
+            if (nextIndex <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            if (node == null) {
+                node = tail;
+                offset = tail.Count;
+            } else if (offset == 0) {
+                node = node.PreviousNode;
+                offset = node.Count;
+            }
+            lastReturned = --nextIndex;
+            return node.Items[--offset];
+        }
+
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        public void remove() {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            UnrolledLinkedList.this.remove(lastReturned);
+            seek(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        public void set(T t) {
+            if (lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            UnrolledLinkedList.this.set(lastReturned, t);
+        }
+
+        public void add(T t) {
+            checkForComodification();
+
+            UnrolledLinkedList.this.add(nextIndex, t);
+            seek(nextIndex + 1);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Positions the cursor in front of the element at the given index; past the last element the cursor is
+         * parked at the end of the tail node.
+         */
+        private void seek(int index) {
+            nextIndex = index;
+            if (index < count) {
+                node = getNodeAt(index);
+                offset = foundOffset;
+            } else {
+                node = tail;
+                offset = tail != null ? tail.Count : 0;
+            }
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
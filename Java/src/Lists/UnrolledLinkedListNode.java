@@ -0,0 +1,13 @@
+package Lists;
+
+class UnrolledLinkedListNode<T> {
+    public UnrolledLinkedListNode<T> PreviousNode = null;
+    public UnrolledLinkedListNode<T> NextNode = null;
+    public T[] Items;
+    public int Count = 0;
+
+    public UnrolledLinkedListNode(T[] items, UnrolledLinkedListNode<T> previousNode) {
+        PreviousNode = previousNode;
+        Items = items;
+    }
+}
@@ -0,0 +1,185 @@
+import java.lang.reflect.Array;
+import java.security.InvalidParameterException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a bounded, lock-free first-in, first-out queue that any number of producer and consumer threads may
+ * use at once.
+ * <p>
+ * Every slot carries a sequence number that says whose turn it is: a slot at position p is free for the producer that
+ * claims p while its sequence equals p, and holds an element for the consumer that claims p once its sequence equals
+ * p + 1. Producers and consumers claim a position with a single compare-and-set on their own padded counter, then
+ * hand the slot over by publishing its next sequence, so neither side ever takes a lock or waits on the other
+ * counter. The capacity is rounded up to a power of two. Elements may not be null.
+ *
+ * @param <T> Specifies the element type of the MpmcQueue.
+ */
+public class MpmcQueue<T> {
+    private final T[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    /**
+     * The next position a producer will claim.
+     */
+    private final PaddedCounter tail = new PaddedCounter();
+
+    /**
+     * The next position a consumer will claim.
+     */
+    private final PaddedCounter head = new PaddedCounter();
+
+    /**
+     * Initializes a new instance of an empty MpmcQueue.
+     *
+     * @param itemType The class-type of the items the MpmcQueue will store.
+     * @param capacity The minimum number of elements the MpmcQueue can hold; rounded up to a power of two.
+     */
+    public MpmcQueue(Class<T> itemType, int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new InvalidParameterException("The capacity of the MpmcQueue must be between 1 and 2^30.");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        buffer = (T[]) Array.newInstance(itemType, size);
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.lazySet(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an item at the tail of the queue.
+     *
+     * @param item The item to add; cannot be null.
+     * @throws IllegalStateException if the queue is full.
+     */
+    public void enqueue(T item) {
+        if (!offer(item)) {
+            throw new IllegalStateException("Queue overflow");
+        }
+    }
+
+    /**
+     * Adds an item at the tail of the queue if there is room for it.
+     *
+     * @param item The item to add; cannot be null.
+     * @return True if the item was added; false if the queue is full.
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException("The MpmcQueue does not permit null elements.");
+        }
+
+        while (true) {
+            long position = tail.value;
+            int slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[slot] = item;
+                    sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // The slot still holds the element from one lap ago.
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes the item at the head of the queue.
+     *
+     * @return The removed item.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public T dequeue() {
+        T item = poll();
+        if (item == null) {
+            throw new NoSuchElementException("Queue underflow");
+        }
+        return item;
+    }
+
+    /**
+     * Removes the item at the head of the queue if there is one.
+     *
+     * @return The removed item, or null if the queue is empty.
+     */
+    public T poll() {
+        while (true) {
+            long position = head.value;
+            int slot = (int) position & mask;
+            long difference = sequences.get(slot) - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T item = buffer[slot];
+                    buffer[slot] = null;
+                    sequences.lazySet(slot, position + buffer.length);
+                    return item;
+                }
+            } else if (difference < 0) {
+                // The producer for this position has not published it yet.
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the item at the head of the queue without removing it. Under concurrent consumers the item may already
+     * have been removed by the time the caller sees it.
+     *
+     * @return The item at the head.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public T peek() {
+        while (true) {
+            long position = head.value;
+            int slot = (int) position & mask;
+            long difference = sequences.get(slot) - (position + 1);
+
+            if (difference < 0) {
+                throw new NoSuchElementException("Queue underflow");
+            }
+            if (difference == 0) {
+                T item = buffer[slot];
+                if (item != null && head.value == position) return item;
+            }
+        }
+    }
+
+    /**
+     * @return Gets the number of elements the MpmcQueue can hold.
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return Gets the number of elements in the MpmcQueue. Under concurrent use this is only a snapshot.
+     */
+    public int size() {
+        while (true) {
+            long currentHead = head.value;
+            long currentTail = tail.value;
+            if (currentHead == head.value) {
+                return (int) Math.max(0, Math.min(currentTail - currentHead, buffer.length));
+            }
+        }
+    }
+
+    /**
+     * @return Gets a value indicating whether the MpmcQueue has no elements within it.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,44 @@
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Represents a volatile long counter padded on both sides to a cache line of its own, so that threads writing
+ * neighbouring fields or objects do not invalidate the counter's line. The bounded concurrent queues keep their head
+ * and tail in these; a queue that needs more per-counter state extends the class.
+ */
+class PaddedCounter extends PaddedCounterValue {
+    private static final AtomicLongFieldUpdater<PaddedCounterValue> ValueUpdater =
+            AtomicLongFieldUpdater.newUpdater(PaddedCounterValue.class, "value");
+
+    long p11, p12, p13, p14, p15, p16, p17;
+
+    /**
+     * Publishes a new value with a store that is ordered after every earlier write but does not wait for it to
+     * become visible.
+     */
+    void lazySet(long newValue) {
+        ValueUpdater.lazySet(this, newValue);
+    }
+
+    /**
+     * Sets the counter to the new value if it still holds the expected one.
+     *
+     * @return True if the counter was updated; otherwise, false.
+     */
+    boolean compareAndSet(long expected, long newValue) {
+        return ValueUpdater.compareAndSet(this, expected, newValue);
+    }
+}
+
+/**
+ * Represents the padding in front of a counter, so that no field of a preceding object shares its cache line.
+ */
+abstract class PaddedCounterLeftPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Represents the counter itself, laid out after the left padding and before the right padding.
+ */
+abstract class PaddedCounterValue extends PaddedCounterLeftPadding {
+    volatile long value;
+}
@@ -0,0 +1,398 @@
+import Lists.GrowthPolicy;
+
+import java.lang.reflect.Array;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import static java.lang.String.format;
+
+/**
+ * Represents a collection of T, objects that are removed smallest first, stored as an array-backed d-ary heap.
+ * <p>
+ * Each node has d children (four by default) stored next to each other, so a heap of n elements is only log_d(n)
+ * levels deep and a sift down reads one run of adjacent children per level instead of chasing a pair of them across
+ * the array. Sifts move a hole rather than swapping, writing each displaced element once.
+ * <p>
+ * Every element gets an int handle when it is added. An index map from handle to heap position, kept in a plain int
+ * array beside the heap, lets {@link #decreaseKey(int, Object)} and {@link #remove(int)} find an element in O(1)
+ * before sifting it in O(log n). A handle stays valid until its element leaves the PriorityQueue, after which it may
+ * be handed out again. Elements may not be null.
+ *
+ * @param <T> Specifies the element type of the PriorityQueue.
+ */
+public class PriorityQueue<T> {
+    /**
+     * The number of children per node if none is given in the constructor of the class.
+     */
+    public static final int DefaultArity = 4;
+
+    /**
+     * The initial capacity of the PriorityQueue if none is given in the constructor of the class.
+     */
+    public static final int DefaultCapacity = 16;
+
+    /**
+     * Marks the end of the chain of free handles.
+     */
+    private static final int NoHandle = -1;
+
+    private final Class<T> itemType;
+    private final Comparator<? super T> comparator;
+    private final GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+    private final int arity;
+
+    private T[] heap;
+
+    /**
+     * The handle of the element at each heap position.
+     */
+    private int[] handles;
+
+    /**
+     * The heap position of the element with each handle. A free handle instead holds -2 minus the next free handle,
+     * which is always negative.
+     */
+    private int[] positions;
+
+    private int freeHandle = NoHandle;
+    private int handleLimit = 0;
+    private int count = 0;
+
+    /**
+     * Initializes a new instance of an empty 4-ary PriorityQueue that orders its elements by their natural ordering.
+     *
+     * @param itemType The class-type of the items the PriorityQueue will store; must be Comparable.
+     */
+    public PriorityQueue(Class<T> itemType) {
+        this(itemType, DefaultArity, DefaultCapacity, null);
+    }
+
+    /**
+     * Initializes a new instance of an empty 4-ary PriorityQueue that orders its elements with the given comparator.
+     *
+     * @param itemType   The class-type of the items the PriorityQueue will store.
+     * @param comparator The comparator that orders the elements, or null to use their natural ordering.
+     */
+    public PriorityQueue(Class<T> itemType, Comparator<? super T> comparator) {
+        this(itemType, DefaultArity, DefaultCapacity, comparator);
+    }
+
+    /**
+     * Initializes a new instance of an empty PriorityQueue.
+     *
+     * @param itemType   The class-type of the items the PriorityQueue will store.
+     * @param arity      The number of children per node; at least 2.
+     * @param capacity   The initial number of elements that the PriorityQueue can contain.
+     * @param comparator The comparator that orders the elements, or null to use their natural ordering.
+     */
+    public PriorityQueue(Class<T> itemType, int arity, int capacity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new InvalidParameterException("The arity of the PriorityQueue must be at least 2.");
+        }
+        if (capacity <= 0) {
+            throw new InvalidParameterException("The capacity of the PriorityQueue must be initialized as a positive non-zero number.");
+        }
+
+        this.itemType = itemType;
+        this.arity = arity;
+        this.comparator = comparator;
+        heap = (T[]) Array.newInstance(itemType, capacity);
+        handles = new int[capacity];
+        positions = new int[capacity];
+    }
+
+    /**
+     * Initializes a new instance of the PriorityQueue holding the given items, arranged into a heap bottom-up in O(n)
+     * time. The item at index i of the array gets handle i.
+     *
+     * @param items      The items to add; none may be null. The array is copied, not kept.
+     * @param arity      The number of children per node; at least 2.
+     * @param comparator The comparator that orders the elements, or null to use their natural ordering.
+     */
+    public PriorityQueue(T[] items, int arity, Comparator<? super T> comparator) {
+        this((Class<T>) items.getClass().getComponentType(), arity, Math.max(items.length, 1), comparator);
+
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == null) {
+                throw new NullPointerException("The PriorityQueue does not permit null elements.");
+            }
+            heap[i] = items[i];
+            handles[i] = i;
+            positions[i] = i;
+        }
+        count = items.length;
+        handleLimit = items.length;
+
+        for (int i = (count - 2) / arity; i >= 0 && count > 1; i--) {
+            siftDown(i, heap[i], handles[i]);
+        }
+    }
+
+    /**
+     * Removes all objects from the PriorityQueue. Every handle becomes invalid.
+     */
+    public void clear() {
+        Arrays.fill(heap, 0, count, null);
+        count = 0;
+        handleLimit = 0;
+        freeHandle = NoHandle;
+    }
+
+    /**
+     * Adds an object to the PriorityQueue.
+     *
+     * @param item The object to add; cannot be null.
+     * @return The handle of the added object.
+     */
+    public int enqueue(T item) {
+        if (item == null) {
+            throw new NullPointerException("The PriorityQueue does not permit null elements.");
+        }
+
+        if (count == heap.length) {
+            setCapacity(growthPolicy.grow(heap.length, count + 1));
+        }
+
+        int handle = allocateHandle();
+        siftUp(count++, item, handle);
+        return handle;
+    }
+
+    /**
+     * Removes and returns the smallest object in the PriorityQueue.
+     *
+     * @return The object that is removed.
+     */
+    public T dequeue() {
+        if (count == 0) {
+            throw new NoSuchElementException("Queue underflow");
+        }
+        return removeAt(0);
+    }
+
+    /**
+     * Removes and returns the smallest object in the PriorityQueue, if there is one.
+     *
+     * @return The object that is removed, or null if the PriorityQueue is empty.
+     */
+    public T poll() {
+        return count == 0 ? null : removeAt(0);
+    }
+
+    /**
+     * Returns the smallest object in the PriorityQueue without removing it.
+     *
+     * @return The smallest object.
+     */
+    public T peek() {
+        if (count == 0) {
+            throw new NoSuchElementException("Queue underflow");
+        }
+        return heap[0];
+    }
+
+    /**
+     * @return Gets the handle of the smallest object in the PriorityQueue.
+     */
+    public int peekHandle() {
+        if (count == 0) {
+            throw new NoSuchElementException("Queue underflow");
+        }
+        return handles[0];
+    }
+
+    /**
+     * Determines whether a handle refers to an object that is still in the PriorityQueue.
+     *
+     * @param handle The handle to check.
+     * @return True if the handle is valid; otherwise, false.
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handleLimit && positions[handle] >= 0;
+    }
+
+    /**
+     * Returns the object with the given handle.
+     *
+     * @param handle The handle of the object.
+     * @return The object with the handle.
+     */
+    public T get(int handle) {
+        return heap[positionOf(handle)];
+    }
+
+    /**
+     * Replaces the object with the given handle by one that orders no later, and moves it up the heap accordingly.
+     *
+     * @param handle The handle of the object to replace.
+     * @param item   The new object; cannot be null or order after the object it replaces.
+     */
+    public void decreaseKey(int handle, T item) {
+        if (item == null) {
+            throw new NullPointerException("The PriorityQueue does not permit null elements.");
+        }
+
+        int position = positionOf(handle);
+        if (compare(item, heap[position]) > 0) {
+            throw new IllegalArgumentException("The new item cannot order after the item it replaces.");
+        }
+        siftUp(position, item, handle);
+    }
+
+    /**
+     * Removes the object with the given handle from the PriorityQueue.
+     *
+     * @param handle The handle of the object to remove.
+     * @return The object that is removed.
+     */
+    public T remove(int handle) {
+        return removeAt(positionOf(handle));
+    }
+
+    /**
+     * Copies the PriorityQueue elements to a new array, in heap order rather than sorted order.
+     *
+     * @return A new array containing elements copied from the PriorityQueue.
+     */
+    public T[] toArray() {
+        T[] returnArray = (T[]) Array.newInstance(itemType, count);
+        System.arraycopy(heap, 0, returnArray, 0, count);
+        return returnArray;
+    }
+
+    /**
+     * @return Gets the number of children per node.
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * @return Gets the number of elements that the PriorityQueue can contain at the current count.
+     */
+    public int getCapacity() {
+        return heap.length;
+    }
+
+    /**
+     * @return Gets a value indicating whether the PriorityQueue has any elements within it. True if the PriorityQueue is empty; otherwise, false.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return Gets the number of elements contained in the PriorityQueue.
+     */
+    public int size() {
+        return count;
+    }
+
+    private int compare(T a, T b) {
+        return comparator != null ? comparator.compare(a, b) : ((Comparable<? super T>) a).compareTo(b);
+    }
+
+    private int positionOf(int handle) {
+        if (!contains(handle)) {
+            throw new NoSuchElementException(format("The handle, %d, does not refer to an element of the PriorityQueue.", handle));
+        }
+        return positions[handle];
+    }
+
+    private int allocateHandle() {
+        if (freeHandle == NoHandle) {
+            return handleLimit++;
+        }
+
+        int handle = freeHandle;
+        freeHandle = -2 - positions[handle];
+        return handle;
+    }
+
+    private void releaseHandle(int handle) {
+        positions[handle] = -2 - freeHandle;
+        freeHandle = handle;
+    }
+
+    /**
+     * Removes the element at the given heap position and fills the hole with the last element.
+     */
+    private T removeAt(int position) {
+        T item = heap[position];
+        releaseHandle(handles[position]);
+
+        int last = --count;
+        T lastItem = heap[last];
+        int lastHandle = handles[last];
+        heap[last] = null;
+
+        if (position != last) {
+            if (compare(lastItem, item) < 0) {
+                siftUp(position, lastItem, lastHandle);
+            } else {
+                siftDown(position, lastItem, lastHandle);
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Places an element at the given position or above it, moving each larger parent down into the hole.
+     */
+    private void siftUp(int position, T item, int handle) {
+        while (position > 0) {
+            int parent = (position - 1) / arity;
+            if (compare(item, heap[parent]) >= 0) break;
+
+            moveTo(position, parent);
+            position = parent;
+        }
+        place(position, item, handle);
+    }
+
+    /**
+     * Places an element at the given position or below it, moving the smallest child up into the hole at each level.
+     */
+    private void siftDown(int position, T item, int handle) {
+        int lastParent = (count - 2) / arity;
+        while (count > 1 && position <= lastParent) {
+            int firstChild = position * arity + 1;
+            int endChild = Math.min(firstChild + arity, count);
+
+            int smallest = firstChild;
+            for (int child = firstChild + 1; child < endChild; child++) {
+                if (compare(heap[child], heap[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+            if (compare(heap[smallest], item) >= 0) break;
+
+            moveTo(position, smallest);
+            position = smallest;
+        }
+        place(position, item, handle);
+    }
+
+    private void moveTo(int position, int from) {
+        heap[position] = heap[from];
+        handles[position] = handles[from];
+        positions[handles[position]] = position;
+    }
+
+    private void place(int position, T item, int handle) {
+        heap[position] = item;
+        handles[position] = handle;
+        positions[handle] = position;
+    }
+
+    /**
+     * Moves the heap and its index map into arrays of the given capacity.
+     */
+    private void setCapacity(int newCapacity) {
+        heap = Arrays.copyOf(heap, newCapacity);
+        handles = Arrays.copyOf(handles, newCapacity);
+        positions = Arrays.copyOf(positions, newCapacity);
+    }
+}
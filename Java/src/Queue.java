@@ -1,7 +1,11 @@
+import Lists.GrowthPolicy;
+
 import java.lang.reflect.Array;
 import java.security.InvalidParameterException;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Iterator;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 
@@ -17,6 +21,7 @@ public class Queue<T> {
     public final int InitCapacity = 4;
 
     private Class<T> nodeClassType;
+    private GrowthPolicy growthPolicy;
     private T[] backingArray;
 
     private int queueTail = -1;
@@ -31,6 +36,7 @@ public class Queue<T> {
     public Queue(Class<T> itemType) {
         backingArray = (T[]) Array.newInstance(itemType, InitCapacity);
         nodeClassType = itemType;
+        growthPolicy = GrowthPolicy.doubling();
         queueTail = -1;
     }
 
@@ -47,16 +53,34 @@ public class Queue<T> {
 
         backingArray = (T[]) Array.newInstance(itemType, capacity);
         nodeClassType = itemType;
+        growthPolicy = GrowthPolicy.doubling();
         queueTail = -1;
     }
 
+    /**
+     * Initializes a new instance of the Queue class that is empty and resizes its backing array with the given policy.
+     *
+     * @param itemType     The class-type of the items the Queue will store.
+     * @param capacity     The initial number of elements that the Queue can contain.
+     * @param growthPolicy The policy deciding how the backing array grows and whether it shrinks.
+     */
+    public Queue(Class<T> itemType, int capacity, GrowthPolicy growthPolicy) {
+        this(itemType, capacity);
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
     /**
      * Removes all objects from the Queue.
      */
     public void clear() {
+        Arrays.fill(backingArray, null);
         queueTail = -1;
         queueHead = 0;
         count = 0;
+        shrinkIfNeeded();
     }
 
     /**
@@ -66,8 +90,8 @@ public class Queue<T> {
      * @return True if item is found in the Queue; otherwise, false.
      */
     public boolean contains(T item) {
-        for (int i = queueHead; i < count; i++) {
-            int cyclicalIndex = i % backingArray.length;
+        for (int i = 0; i < count; i++) {
+            int cyclicalIndex = (queueHead + i) % backingArray.length;
             if (backingArray[cyclicalIndex] == null && item == null) {
                 return true;
             } else if (backingArray[cyclicalIndex] != null && backingArray[cyclicalIndex].equals(item)) {
@@ -96,7 +120,7 @@ public class Queue<T> {
         if (arrayIndex < 0 || arrayIndex >= array.length) {
             throw new IndexOutOfBoundsException(format("The start index, {0} is an invalid starting point for the given array.", queueTail));
         }
-        System.arraycopy(backingArray, queueHead, array, arrayIndex, count);
+        copyElements(array, arrayIndex);
     }
 
     /**
@@ -109,10 +133,13 @@ public class Queue<T> {
             throw new NoSuchElementException("Queue underflow");
         }
 
+        T item = backingArray[queueHead];
+        backingArray[queueHead] = null;
+        queueHead = (queueHead + 1) % backingArray.length;
         count--;
-        queueHead++;
-        int previous = queueHead - 1;
-        return backingArray[previous % backingArray.length];
+
+        shrinkIfNeeded();
+        return item;
     }
 
     /**
@@ -121,9 +148,107 @@ public class Queue<T> {
      * @param item The object to add to the Queue. The value can be null.
      */
     public void enqueue(T item) {
-        count++;
         resize();
-        backingArray[queueTail % backingArray.length] = item;
+        queueTail = (queueTail + 1) % backingArray.length;
+        backingArray[queueTail] = item;
+        count++;
+    }
+
+    /**
+     * Adds a range of objects to the end of the Queue, in order. The backing array grows at most once and the items
+     * are copied in at most two segments, split at the point where the ring wraps around.
+     *
+     * @param items  The array holding the objects to add. The values can be null.
+     * @param offset The index in items of the first object to add.
+     * @param length The number of objects to add.
+     */
+    public void enqueueAll(T[] items, int offset, int length) {
+        if (items == null) {
+            throw new NullPointerException("The array to copy from cannot be null.");
+        }
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IndexOutOfBoundsException(format("The range starting at %d of length %d is out of the bounds of the array.", offset, length));
+        }
+
+        if (count + length > backingArray.length) {
+            setCapacity(growthPolicy.grow(backingArray.length, count + length));
+        }
+
+        int start = (queueTail + 1) % backingArray.length;
+        int firstSegment = Math.min(length, backingArray.length - start);
+        System.arraycopy(items, offset, backingArray, start, firstSegment);
+        System.arraycopy(items, offset + firstSegment, backingArray, 0, length - firstSegment);
+
+        if (length > 0) {
+            queueTail = (start + length - 1) % backingArray.length;
+            count += length;
+        }
+    }
+
+    /**
+     * Removes up to the given number of objects from the beginning of the Queue and copies them, in order, to the start
+     * of the given array. The items are copied out in at most two segments, split at the point where the ring wraps
+     * around.
+     *
+     * @param array       The array that receives the removed objects.
+     * @param maxElements The maximum number of objects to remove; cannot be more than the length of the array.
+     * @return The number of objects removed.
+     */
+    public int drainTo(T[] array, int maxElements) {
+        if (array == null) {
+            throw new NullPointerException("The array to copy to cannot be null.");
+        }
+
+        if (maxElements < 0 || maxElements > array.length) {
+            throw new IndexOutOfBoundsException(format("The array of length, %d, cannot hold %d elements.", array.length, maxElements));
+        }
+
+        int drained = Math.min(count, maxElements);
+        int firstSegment = Math.min(drained, backingArray.length - queueHead);
+        System.arraycopy(backingArray, queueHead, array, 0, firstSegment);
+        System.arraycopy(backingArray, 0, array, firstSegment, drained - firstSegment);
+        Arrays.fill(backingArray, queueHead, queueHead + firstSegment, null);
+        Arrays.fill(backingArray, 0, drained - firstSegment, null);
+
+        queueHead = (queueHead + drained) % backingArray.length;
+        count -= drained;
+
+        shrinkIfNeeded();
+        return drained;
+    }
+
+    /**
+     * Removes up to the given number of objects from the beginning of the Queue and hands each one, in order, to the
+     * given action. The Queue may be modified by the action; any shrinking of the backing array is put off until the
+     * drain is finished.
+     *
+     * @param action      The action to perform on each removed object.
+     * @param maxElements The maximum number of objects to remove.
+     * @return The number of objects removed.
+     */
+    public int drainTo(Consumer<? super T> action, int maxElements) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+
+        int drained = 0;
+        try {
+            while (drained < maxElements && count > 0) {
+                T item = backingArray[queueHead];
+                backingArray[queueHead] = null;
+                if (++queueHead == backingArray.length) {
+                    queueHead = 0;
+                }
+                count--;
+                drained++;
+
+                action.accept(item);
+            }
+        } finally {
+            shrinkIfNeeded();
+        }
+        return drained;
     }
 
     /**
@@ -135,7 +260,7 @@ public class Queue<T> {
         if (isEmpty()) {
             throw new NoSuchElementException("Queue underflow");
         }
-        return backingArray[queueHead % backingArray.length];
+        return backingArray[queueHead];
     }
 
     /**
@@ -145,28 +270,54 @@ public class Queue<T> {
      */
     public T[] toArray() {
         T[] returnArray = (T[]) Array.newInstance(nodeClassType, count);
-        System.arraycopy(backingArray, 0, returnArray, 0, count);
+        copyElements(returnArray, 0);
         return returnArray;
     }
 
     /**
-     * Checks if the Queue needs to be resized. If resized, it doubles the count of the backing array.
+     * Checks if the Queue needs to be resized. If resized, it grows the backing array as the growth policy dictates.
      */
     private void resize() {
-        queueTail++;
-        if (count <= backingArray.length) {
-            if (queueHead == backingArray.length) {
-                queueHead = 0;
-            }
-            return;
+        if (count < backingArray.length) return;
+
+        setCapacity(growthPolicy.grow(backingArray.length, count + 1));
+    }
+
+    /**
+     * Asks the growth policy whether the backing array should shrink after a dequeue and, if so, reallocates it once
+     * at the final capacity. The Queue always keeps at least one slot.
+     */
+    private void shrinkIfNeeded() {
+        int newCapacity = backingArray.length;
+        for (int nextCapacity; (nextCapacity = growthPolicy.shrink(newCapacity, count)) < newCapacity; ) {
+            newCapacity = nextCapacity;
         }
 
-        T[] newBackingArray = (T[]) Array.newInstance(nodeClassType, backingArray.length * 2);
-        System.arraycopy(backingArray, 0, newBackingArray, 0, backingArray.length);
+        newCapacity = Math.max(newCapacity, 1);
+        if (newCapacity < backingArray.length) {
+            setCapacity(newCapacity);
+        }
+    }
+
+    /**
+     * Moves the elements into a new backing array of the given capacity, unwrapping them so the head is at index 0.
+     */
+    private void setCapacity(int newCapacity) {
+        T[] newBackingArray = (T[]) Array.newInstance(nodeClassType, newCapacity);
+        copyElements(newBackingArray, 0);
 
         backingArray = newBackingArray;
-        queueTail = count - 1;
         queueHead = 0;
+        queueTail = count - 1;
+    }
+
+    /**
+     * Copies the elements in FIFO order into the given array, in at most two segments split at the wrap point.
+     */
+    private void copyElements(T[] array, int arrayIndex) {
+        int firstSegment = Math.min(count, backingArray.length - queueHead);
+        System.arraycopy(backingArray, queueHead, array, arrayIndex, firstSegment);
+        System.arraycopy(backingArray, 0, array, arrayIndex + firstSegment, count - firstSegment);
     }
 
     /**
@@ -198,7 +349,7 @@ public class Queue<T> {
             }
 
             currentIndex++;
-            return backingArray[currentIndex - 1];
+            return backingArray[(queueHead + currentIndex - 1) % backingArray.length];
         }
     }
 
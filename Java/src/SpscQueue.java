@@ -0,0 +1,174 @@
+import java.lang.reflect.Array;
+import java.security.InvalidParameterException;
+import java.util.function.Consumer;
+
+/**
+ * Represents a bounded, lock-free first-in, first-out queue for handing items from exactly one producer thread to
+ * exactly one consumer thread.
+ * <p>
+ * The capacity is rounded up to a power of two so a slot is found by masking an ever-increasing counter instead of
+ * taking a remainder. The producer owns the tail counter and the consumer owns the head counter; each counter sits
+ * between padding on its own cache line so the two threads do not invalidate each other's line on every operation.
+ * A counter is published with a lazy (release) store, which orders the slot write before it without a full fence, and
+ * each side keeps a cached copy of the other's counter so it only reads the shared one when the cache runs out.
+ * <p>
+ * Calling {@link #offer(Object)} from more than one thread, or {@link #poll()} from more than one thread, is not
+ * supported. Elements may not be null.
+ *
+ * @param <T> Specifies the element type of the SpscQueue.
+ */
+public class SpscQueue<T> {
+    private final T[] buffer;
+    private final int mask;
+
+    /**
+     * The index of the next slot to write. Written by the producer only; cached there is the last head it read.
+     */
+    private final CachingCounter tail = new CachingCounter();
+
+    /**
+     * The index of the next slot to read. Written by the consumer only; cached there is the last tail it read.
+     */
+    private final CachingCounter head = new CachingCounter();
+
+    /**
+     * Initializes a new instance of an empty SpscQueue.
+     *
+     * @param itemType The class-type of the items the SpscQueue will store.
+     * @param capacity The minimum number of elements the SpscQueue can hold; rounded up to a power of two.
+     */
+    public SpscQueue(Class<T> itemType, int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new InvalidParameterException("The capacity of the SpscQueue must be between 1 and 2^30.");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        buffer = (T[]) Array.newInstance(itemType, size);
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an item at the tail of the queue. Must only be called from the producer thread.
+     *
+     * @param item The item to add; cannot be null.
+     * @return True if the item was added; false if the queue is full.
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException("The SpscQueue does not permit null elements.");
+        }
+
+        long currentTail = tail.value;
+        if (currentTail - tail.cached >= buffer.length) {
+            tail.cached = head.value;
+            if (currentTail - tail.cached >= buffer.length) return false;
+        }
+
+        buffer[(int) currentTail & mask] = item;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the item at the head of the queue. Must only be called from the consumer thread.
+     *
+     * @return The removed item, or null if the queue is empty.
+     */
+    public T poll() {
+        long currentHead = head.value;
+        if (currentHead >= head.cached) {
+            head.cached = tail.value;
+            if (currentHead >= head.cached) return null;
+        }
+
+        int slot = (int) currentHead & mask;
+        T item = buffer[slot];
+        buffer[slot] = null;
+        head.lazySet(currentHead + 1);
+        return item;
+    }
+
+    /**
+     * Returns the item at the head of the queue without removing it. Must only be called from the consumer thread.
+     *
+     * @return The item at the head, or null if the queue is empty.
+     */
+    public T peek() {
+        long currentHead = head.value;
+        if (currentHead >= head.cached) {
+            head.cached = tail.value;
+            if (currentHead >= head.cached) return null;
+        }
+        return buffer[(int) currentHead & mask];
+    }
+
+    /**
+     * Removes up to the given number of items and hands them to the consumer in FIFO order, publishing the new head
+     * once for the whole batch. If the consumer throws, the head is still published past every item already handed
+     * to it, including the one it threw on, so those slots are not read again. Must only be called from the consumer
+     * thread.
+     *
+     * @param consumer The action to perform on each removed item.
+     * @param limit    The maximum number of items to remove.
+     * @return The number of items removed.
+     */
+    public int drain(Consumer<? super T> consumer, int limit) {
+        long currentHead = head.value;
+        long available = tail.value - currentHead;
+        head.cached = currentHead + available;
+
+        int batch = (int) Math.min(available, limit);
+        int drained = 0;
+        try {
+            while (drained < batch) {
+                int slot = (int) (currentHead + drained) & mask;
+                T item = buffer[slot];
+                buffer[slot] = null;
+                drained++;
+                consumer.accept(item);
+            }
+        } finally {
+            if (drained > 0) {
+                head.lazySet(currentHead + drained);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * @return Gets the number of elements the SpscQueue can hold.
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * @return Gets the number of elements in the SpscQueue. While both threads are running this is only a snapshot.
+     */
+    public int size() {
+        while (true) {
+            long currentHead = head.value;
+            long currentTail = tail.value;
+            if (currentHead == head.value) {
+                return (int) (currentTail - currentHead);
+            }
+        }
+    }
+
+    /**
+     * @return Gets a value indicating whether the SpscQueue has no elements within it.
+     */
+    public boolean isEmpty() {
+        return head.value == tail.value;
+    }
+
+    /**
+     * Represents a padded counter together with the owning thread's cached copy of the opposite counter.
+     */
+    private static final class CachingCounter extends PaddedCounter {
+        long cached;
+    }
+}
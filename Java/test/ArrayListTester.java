@@ -1,8 +1,19 @@
 import Lists.ArrayList;
+import Lists.GrowthPolicy;
 import Lists.LinkedList;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
 
 public class ArrayListTester extends ListTester {
     public ArrayListTester() {
@@ -24,6 +35,283 @@ public class ArrayListTester extends ListTester {
         assertEquals(initCapacity * 2, getArrayList().capacity());
     }
 
+    @Test
+    public void testAddAllAtIndex() {
+        PopulateTestList();
+        getArrayList().addAll(2, Arrays.asList(-1, -2, -3));
+        assertEquals(SampleSize + 3, getArrayList().size());
+        assertEquals(3, getArrayList().get(1).intValue());
+        assertEquals(-1, getArrayList().get(2).intValue());
+        assertEquals(-3, getArrayList().get(4).intValue());
+        assertEquals(4, getArrayList().get(5).intValue());
+
+        getArrayList().addAll(getArrayList().size(), Arrays.asList(100, 101));
+        assertEquals(101, getArrayList().get(getArrayList().size() - 1).intValue());
+
+        exception.expect(IndexOutOfBoundsException.class);
+        getArrayList().addAll(getArrayList().size() + 1, Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void testEnsureCapacity() {
+        getArrayList().ensureCapacity(1000);
+        assertEquals(1000, getArrayList().capacity());
+
+        PopulateTestList();
+        assertEquals(1000, getArrayList().capacity());
+        assertEquals(SampleSize, getArrayList().size());
+    }
+
+    @Test
+    public void testTrimToSize() {
+        PopulateTestList();
+        getArrayList().trimToSize();
+        assertEquals(SampleSize, getArrayList().capacity());
+        assertEquals(SampleSize + 1, getArrayList().get(SampleSize - 1).intValue());
+
+        getArrayList().clear();
+        getArrayList().trimToSize();
+        assertEquals(0, getArrayList().capacity());
+
+        getArrayList().add(1);
+        assertEquals(1, getArrayList().get(0).intValue());
+    }
+
+    @Test
+    public void testSubListView() {
+        PopulateTestList();
+        List<Integer> subList = getArrayList().subList(2, 6);
+        subList.set(0, 100);
+        assertEquals(100, getArrayList().get(2).intValue());
+
+        getArrayList().set(3, 200);
+        assertEquals(200, subList.get(1).intValue());
+
+        subList.add(1, -1);
+        assertEquals(5, subList.size());
+        assertEquals(SampleSize + 1, getArrayList().size());
+        assertEquals(-1, getArrayList().get(3).intValue());
+
+        List<Integer> nestedList = subList.subList(1, 3);
+        nestedList.clear();
+        assertEquals(3, subList.size());
+        assertEquals(SampleSize - 1, getArrayList().size());
+        assertEquals(100, getArrayList().get(2).intValue());
+        assertEquals(6, getArrayList().get(3).intValue());
+
+        getArrayList().subList(0, getArrayList().size()).clear();
+        assertTrue(getArrayList().isEmpty());
+    }
+
+    @Test
+    public void testSubListFailFast() {
+        PopulateTestList();
+        List<Integer> subList = getArrayList().subList(2, 6);
+        getArrayList().add(100);
+
+        exception.expect(ConcurrentModificationException.class);
+        subList.get(0);
+    }
+
+    @Test
+    public void testListIteratorAtIndex() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = getArrayList().listIterator(4);
+        assertEquals(4, iterator.nextIndex());
+        assertEquals(6, iterator.next().intValue());
+    }
+
+    @Test
+    public void testListIteratorPreviousRemoveAdd() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = getArrayList().listIterator(4);
+        assertTrue(iterator.hasPrevious());
+        assertEquals(5, iterator.previous().intValue());
+        assertEquals(2, iterator.previousIndex());
+
+        iterator.remove();
+        assertEquals(3, iterator.nextIndex());
+        iterator.add(50);
+        assertEquals(6, iterator.next().intValue());
+        assertEquals(6, iterator.previous().intValue());
+        assertEquals(50, iterator.previous().intValue());
+        iterator.set(51);
+
+        assertEquals(SampleSize, getArrayList().size());
+        assertEquals(Arrays.asList(2, 3, 4, 51, 6, 7), getArrayList().subList(0, 6));
+        assertFalse(getArrayList().listIterator().hasPrevious());
+    }
+
+    @Test
+    public void testListIteratorFailsFast() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = getArrayList().listIterator();
+        iterator.next();
+        getArrayList().add(100);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testListIteratorMatchesJavaUtilArrayList() {
+        for (int seed = 0; seed < 40; seed++) {
+            Random random = new Random(seed);
+            ArrayList<Integer> list = new ArrayList<>(Integer.class);
+            java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                list.add(i);
+                expected.add(i);
+            }
+
+            int start = random.nextInt(expected.size() + 1);
+            ListIterator<Integer> iterator = list.listIterator(start);
+            ListIterator<Integer> expectedIterator = expected.listIterator(start);
+            boolean canModify = false;
+            for (int op = 0; op < 200; op++) {
+                int choice = random.nextInt(5);
+                if (choice == 0 && expectedIterator.hasNext()) {
+                    assertEquals(expectedIterator.next(), iterator.next());
+                    canModify = true;
+                } else if (choice == 1 && expectedIterator.hasPrevious()) {
+                    assertEquals(expectedIterator.previous(), iterator.previous());
+                    canModify = true;
+                } else if (choice == 2 && canModify) {
+                    expectedIterator.remove();
+                    iterator.remove();
+                    canModify = false;
+                } else if (choice == 3 && canModify) {
+                    int value = random.nextInt(1000);
+                    expectedIterator.set(value);
+                    iterator.set(value);
+                } else if (choice == 4) {
+                    int value = random.nextInt(1000);
+                    expectedIterator.add(value);
+                    iterator.add(value);
+                    canModify = false;
+                }
+                assertEquals(expectedIterator.hasNext(), iterator.hasNext());
+                assertEquals(expectedIterator.hasPrevious(), iterator.hasPrevious());
+                assertEquals(expectedIterator.nextIndex(), iterator.nextIndex());
+            }
+            assertEquals(expected, Arrays.asList(list.toArray()));
+        }
+    }
+
+    @Test
+    public void testForEachSkipsUnusedCapacity() {
+        PopulateTestList();
+        int visited = 0;
+        for (Integer item : getArrayList()) {
+            assertEquals(visited + 2, item.intValue());
+            visited++;
+        }
+        assertEquals(SampleSize, visited);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        PopulateTestList();
+        Iterator<Integer> iterator = getArrayList().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+        assertEquals(SampleSize / 2, getArrayList().size());
+        assertEquals(4, getArrayList().get(1).intValue());
+    }
+
+    @Test
+    public void testIteratorFailFast() {
+        PopulateTestList();
+        Iterator<Integer> iterator = getArrayList().iterator();
+        iterator.next();
+        getArrayList().add(100);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testSpliterator() {
+        PopulateTestList();
+        Spliterator<Integer> spliterator = getArrayList().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(SampleSize, spliterator.getExactSizeIfKnown());
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals(SampleSize / 2, prefix.estimateSize());
+        assertEquals(SampleSize / 2, spliterator.estimateSize());
+
+        int[] firstSeen = new int[1];
+        prefix.tryAdvance(item -> firstSeen[0] = item);
+        assertEquals(2, firstSeen[0]);
+    }
+
+    @Test
+    public void testParallelStream() {
+        ArrayList<Integer> list = new ArrayList<>(Integer.class);
+        for (int i = 1; i <= 100000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(5000050000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(100000, list.parallelStream().count());
+    }
+
+    @Test
+    public void testRemoveAllLargeCollection() {
+        ArrayList<Integer> list = new ArrayList<>(Integer.class);
+        List<Integer> toRemove = new java.util.ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            if (i % 3 == 0) {
+                toRemove.add(i);
+            }
+        }
+        list.add(null);
+
+        assertTrue(list.removeAll(toRemove));
+        assertEquals(667, list.size());
+        assertEquals(1, list.get(0).intValue());
+        assertEquals(2, list.get(1).intValue());
+        assertEquals(4, list.get(2).intValue());
+        assertEquals(null, list.get(666));
+        assertFalse(list.removeAll(toRemove));
+
+        assertTrue(list.retainAll(toRemove));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        PopulateTestList();
+        assertTrue(getArrayList().removeIf(item -> item % 2 == 0));
+        assertEquals(SampleSize / 2, getArrayList().size());
+        for (Integer item : getArrayList()) {
+            assertEquals(1, item % 2);
+        }
+        assertFalse(getArrayList().removeIf(item -> item > 100));
+    }
+
+    @Test
+    public void testShrinkingGrowthPolicy() {
+        ArrayList<Integer> list = new ArrayList<>(Integer.class, 4, GrowthPolicy.oneAndAHalf().withShrink(4));
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertTrue(list.capacity() >= 100);
+
+        list.subList(10, 100).clear();
+        assertEquals(10, list.size());
+        assertTrue(list.capacity() < 40);
+        assertEquals(9, list.get(9).intValue());
+
+        list.clear();
+        assertEquals(4, list.capacity());
+    }
+
     private ArrayList<Integer> getArrayList() {
         return (ArrayList<Integer>) testList;
     }
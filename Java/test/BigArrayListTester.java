@@ -0,0 +1,149 @@
+import Lists.BigArrayList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BigArrayListTester extends ListTester {
+    public BigArrayListTester() {
+        super(BigArrayList.withChunkBits(Integer.class, 2));
+    }
+
+    @Test
+    public void testLongIndexing() {
+        PopulateTestList();
+        assertEquals(SampleSize, getBigArrayList().longSize());
+        assertEquals(4, getBigArrayList().get(2L).intValue());
+        assertEquals(4, getBigArrayList().set(2L, 40).intValue());
+        assertEquals(2L, getBigArrayList().longIndexOf(40));
+        assertEquals(40, getBigArrayList().remove(2L).intValue());
+        assertEquals(-1L, getBigArrayList().longLastIndexOf(40));
+    }
+
+    @Test
+    public void testAppendAllocatesChunks() {
+        assertEquals(0, getBigArrayList().capacity());
+        getBigArrayList().add(1);
+        assertEquals(getBigArrayList().chunkSize(), getBigArrayList().capacity());
+
+        for (int i = 0; i < 100; i++) {
+            getBigArrayList().add(i);
+        }
+        assertEquals(101, getBigArrayList().size());
+        assertEquals(104, getBigArrayList().capacity());
+    }
+
+    @Test
+    public void testCapacityConstructor() {
+        BigArrayList<Integer> list = new BigArrayList<>(Integer.class, 100);
+        assertEquals(BigArrayList.DefaultChunkBits, Integer.numberOfTrailingZeros(list.chunkSize()));
+        assertEquals(list.chunkSize(), list.capacity());
+        assertTrue(list.isEmpty());
+
+        BigArrayList<Integer> chunked = BigArrayList.withChunkBits(Integer.class, 3);
+        assertEquals(8, chunked.chunkSize());
+        assertEquals(0, chunked.capacity());
+        assertEquals(0, new BigArrayList<>(Integer.class, 0).capacity());
+    }
+
+    @Test
+    public void testInsertAndRemoveAcrossChunks() {
+        PopulateTestList();
+        getBigArrayList().add(1, -1);
+        getBigArrayList().add(8, -8);
+        assertEquals(Arrays.asList(2, -1, 3, 4, 5, 6, 7, 8, -8, 9, 10, 11), getBigArrayList());
+
+        getBigArrayList().addAll(3, Arrays.asList(100, 101, 102, 103, 104));
+        assertEquals(Arrays.asList(2, -1, 3, 100, 101, 102, 103, 104, 4, 5, 6, 7, 8, -8, 9, 10, 11), getBigArrayList());
+
+        getBigArrayList().removeIf(item -> item < 0 || item >= 100);
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 10, 11), getBigArrayList());
+
+        while (getBigArrayList().size() > 1) {
+            getBigArrayList().remove(0);
+        }
+        assertEquals(11, getBigArrayList().get(0).intValue());
+        assertTrue(getBigArrayList().capacity() <= 2 * getBigArrayList().chunkSize());
+    }
+
+    @Test
+    public void testIteratorAndSubList() {
+        PopulateTestList();
+        int expected = 2;
+        for (Integer item : getBigArrayList()) {
+            assertEquals(expected++, item.intValue());
+        }
+
+        List<Integer> subList = getBigArrayList().subList(3, 7);
+        subList.set(0, 50);
+        subList.remove(1);
+        assertEquals(50, getBigArrayList().get(3).intValue());
+        assertEquals(7, getBigArrayList().get(4).intValue());
+        assertEquals(SampleSize - 1, getBigArrayList().size());
+
+        Iterator<Integer> iterator = getBigArrayList().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Arrays.asList(3, 7, 9, 11), getBigArrayList());
+        assertEquals(30, getBigArrayList().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void testInsertsMatchReferenceList() {
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(10);
+        for (int i = 0; i < 200; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            if (i % 5 == 0) {
+                List<Integer> items = Arrays.asList(i, -i, i + 1000);
+                expected.addAll(index, items);
+                getBigArrayList().addAll(index, items);
+            } else {
+                expected.add(index, i);
+                getBigArrayList().add(index, i);
+            }
+        }
+        assertEquals(expected, getBigArrayList());
+    }
+
+    @Test
+    public void testRemoveIfThrowingFilterClosesGap() {
+        PopulateTestList();
+        try {
+            getBigArrayList().removeIf(item -> {
+                if (item == 8) throw new IllegalStateException();
+                return item % 2 == 0;
+            });
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        assertEquals(Arrays.asList(3, 5, 7, 8, 9, 10, 11), getBigArrayList());
+        assertEquals(7, getBigArrayList().longSize());
+        getBigArrayList().add(12);
+        assertEquals(12, getBigArrayList().get(7).intValue());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Integer> subList = getBigArrayList().subList(2, 6);
+        subList.subList(1, 3).remove(0);
+        assertEquals(Arrays.asList(4, 6, 7), subList);
+
+        getBigArrayList().add(0, -1);
+        subList.get(0);
+    }
+
+    private BigArrayList<Integer> getBigArrayList() {
+        return (BigArrayList<Integer>) testList;
+    }
+}
@@ -0,0 +1,215 @@
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BlockingQueueAdapterTester {
+    private BlockingQueueAdapter<Integer> testQueue;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void initQueue() {
+        testQueue = new BlockingQueueAdapter<>(Integer.class, 3);
+    }
+
+    @Test
+    public void testOfferAndPoll() {
+        assertNull(testQueue.poll());
+        assertNull(testQueue.peek());
+
+        assertTrue(testQueue.offer(1));
+        assertTrue(testQueue.offer(2));
+        assertTrue(testQueue.offer(3));
+        assertFalse(testQueue.offer(4));
+        assertEquals(3, testQueue.size());
+        assertEquals(0, testQueue.remainingCapacity());
+
+        assertEquals(1, testQueue.peek().intValue());
+        assertEquals(1, testQueue.poll().intValue());
+        assertEquals(1, testQueue.remainingCapacity());
+        assertArrayEquals(new Object[]{2, 3}, testQueue.toArray());
+    }
+
+    @Test
+    public void testTimedWaitsGiveUp() throws InterruptedException {
+        assertNull(testQueue.poll(10, TimeUnit.MILLISECONDS));
+
+        testQueue.put(1);
+        testQueue.put(2);
+        testQueue.put(3);
+        assertFalse(testQueue.offer(4, 10, TimeUnit.MILLISECONDS));
+        assertEquals(3, testQueue.size());
+    }
+
+    @Test
+    public void testTakeWaitsForPut() throws Exception {
+        Thread consumer = new Thread(() -> {
+            try {
+                assertEquals(7, testQueue.take().intValue());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        awaitWaiting(consumer);
+        testQueue.put(7);
+        consumer.join(1000);
+        assertFalse(consumer.isAlive());
+        assertTrue(testQueue.isEmpty());
+    }
+
+    @Test
+    public void testPutWaitsForTake() throws Exception {
+        testQueue.put(1);
+        testQueue.put(2);
+        testQueue.put(3);
+
+        Thread producer = new Thread(() -> {
+            try {
+                testQueue.put(4);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        awaitWaiting(producer);
+        assertEquals(1, testQueue.take().intValue());
+        producer.join(1000);
+        assertFalse(producer.isAlive());
+        assertArrayEquals(new Object[]{2, 3, 4}, testQueue.toArray());
+    }
+
+    @Test
+    public void testTakeIsInterruptible() throws Exception {
+        AtomicInteger interrupted = new AtomicInteger();
+        Thread consumer = new Thread(() -> {
+            try {
+                testQueue.take();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+        consumer.start();
+        awaitWaiting(consumer);
+        consumer.interrupt();
+        consumer.join(1000);
+        assertEquals(1, interrupted.get());
+    }
+
+    @Test
+    public void testRemoveContainsAndDrain() {
+        BlockingQueueAdapter<Integer> queue = new BlockingQueueAdapter<>(Integer.class);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+
+        assertTrue(queue.contains(5));
+        assertTrue(queue.remove(5));
+        assertFalse(queue.contains(5));
+        assertFalse(queue.remove(42));
+        assertEquals(Integer.MAX_VALUE, queue.remainingCapacity());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained, 3));
+        assertEquals(Arrays.asList(0, 1, 2), drained);
+        assertEquals(6, queue.drainTo(drained));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 6, 7, 8, 9), drained);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        testQueue.offer(1);
+        testQueue.offer(2);
+
+        List<Integer> items = new ArrayList<>();
+        for (Integer item : testQueue) {
+            items.add(item);
+            testQueue.poll();
+        }
+        assertEquals(Arrays.asList(1, 2), items);
+        assertTrue(testQueue.isEmpty());
+    }
+
+    @Test
+    public void testNullRejected() {
+        exception.expect(NullPointerException.class);
+        testQueue.offer(null);
+    }
+
+    @Test
+    public void testExecutorWorkQueue() throws Exception {
+        ExecutorService executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new BlockingQueueAdapter<>(Runnable.class));
+        AtomicInteger runs = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(executor.submit(runs::incrementAndGet));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(100, runs.get());
+    }
+
+    @Test
+    public void testProducersAndConsumers() throws InterruptedException {
+        final int perProducer = 10_000;
+        AtomicInteger sum = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < 2; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        testQueue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[t + 2] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        sum.addAndGet(testQueue.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(2 * perProducer * (perProducer + 1) / 2, sum.get());
+        assertTrue(testQueue.isEmpty());
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+}
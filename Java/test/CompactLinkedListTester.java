@@ -0,0 +1,100 @@
+import Lists.CompactLinkedList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.junit.Assert.*;
+
+public class CompactLinkedListTester extends ListTester {
+    public CompactLinkedListTester() {
+        super(new CompactLinkedList<>(Integer.class));
+    }
+
+    @Test
+    public void testSlotInsertAndRemove() {
+        PopulateTestList();
+        int slot = getCompactList().firstSlot();
+        for (int i = 0; i < 4; i++) {
+            slot = getCompactList().nextSlot(slot);
+        }
+        assertEquals(6, getCompactList().getSlot(slot).intValue());
+
+        int before = getCompactList().insertBefore(slot, -1);
+        int after = getCompactList().insertAfter(slot, -2);
+        assertEquals(Arrays.asList(2, 3, 4, 5, -1, 6, -2, 7, 8, 9, 10, 11), getCompactList());
+        assertEquals(slot, getCompactList().nextSlot(before));
+        assertEquals(slot, getCompactList().previousSlot(after));
+
+        assertEquals(6, getCompactList().removeSlot(slot).intValue());
+        assertEquals(after, getCompactList().nextSlot(before));
+        assertEquals(SampleSize + 1, getCompactList().size());
+
+        exception.expect(IllegalArgumentException.class);
+        getCompactList().getSlot(slot);
+    }
+
+    @Test
+    public void testFreedSlotsAreReused() {
+        PopulateTestList();
+        int capacity = getCompactList().capacity();
+        for (int round = 0; round < 100; round++) {
+            getCompactList().remove(3);
+            getCompactList().add(3, round);
+        }
+        assertEquals(capacity, getCompactList().capacity());
+        assertEquals(99, getCompactList().get(3).intValue());
+    }
+
+    @Test
+    public void testCompactRestoresListOrder() {
+        PopulateTestList();
+        getCompactList().addFirst(1);
+        getCompactList().remove(5);
+        getCompactList().compact();
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 7, 8, 9, 10, 11), getCompactList());
+        assertEquals(getCompactList().size(), getCompactList().capacity());
+        for (int slot = getCompactList().firstSlot(), i = 0; slot != CompactLinkedList.NoSlot; slot = getCompactList().nextSlot(slot), i++) {
+            assertEquals(i, slot);
+        }
+        assertEquals(11, getCompactList().getLast().intValue());
+    }
+
+    @Test
+    public void testListIteratorBothDirections() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = getCompactList().listIterator(SampleSize);
+        for (int i = SampleSize - 1; i >= 0; i--) {
+            assertEquals(i + 2, iterator.previous().intValue());
+        }
+        assertFalse(iterator.hasPrevious());
+
+        assertEquals(2, iterator.next().intValue());
+        iterator.remove();
+        iterator.add(-1);
+        assertEquals(3, iterator.next().intValue());
+        iterator.set(100);
+        assertEquals(4, iterator.next().intValue());
+        iterator.previous();
+        iterator.remove();
+        assertEquals(Arrays.asList(-1, 100, 5, 6, 7, 8, 9, 10, 11), getCompactList());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Integer> subList = getCompactList().subList(2, 6);
+        subList.subList(1, 3).remove(0);
+        assertEquals(Arrays.asList(4, 6, 7), subList);
+
+        getCompactList().add(0, -1);
+        subList.get(0);
+    }
+
+    private CompactLinkedList<Integer> getCompactList() {
+        return (CompactLinkedList<Integer>) testList;
+    }
+}
@@ -0,0 +1,149 @@
+import Lists.DoubleArrayList;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class DoubleArrayListTester {
+    private DoubleArrayList testList;
+    public final int SampleSize = 10;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testAddGetRemove() {
+        testList.addDouble(1.5);
+        testList.addDouble(Double.NaN);
+        testList.add(0, -0.0);
+
+        assertEquals(3, testList.size());
+        assertEquals(1.5, testList.getDouble(1), 0.0);
+        assertEquals(1, testList.indexOfDouble(1.5));
+        assertEquals(2, testList.indexOf(Double.NaN));
+        assertEquals(-1, testList.indexOfDouble(0.0));
+        assertTrue(testList.contains(-0.0));
+
+        assertEquals(1.5, testList.removeDouble(1), 0.0);
+        assertEquals(2, testList.size());
+    }
+
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            testList.addDouble(i / 2.0);
+        }
+
+        PrimitiveIterator.OfDouble iterator = testList.doubleIterator();
+        int index = 0;
+        while (iterator.hasNext()) {
+            assertEquals(index / 2.0, iterator.nextDouble(), 0.0);
+            index++;
+        }
+        assertEquals(10, index);
+    }
+
+    @Test
+    public void testSubListIsLiveView() {
+        PopulateTestList();
+        List<Double> subList = testList.subList(2, 6);
+        assertEquals(4, subList.size());
+
+        assertEquals(2.0, subList.set(0, 20.5), 0.0);
+        assertEquals(20.5, testList.getDouble(2), 0.0);
+
+        subList.add(4, Double.NaN);
+        assertEquals(SampleSize + 1, testList.size());
+        assertTrue(Double.isNaN(testList.getDouble(6)));
+
+        subList.remove(0);
+        assertEquals(Arrays.asList(2.5, 3.0, 3.5, Double.NaN), subList);
+        assertEquals(SampleSize, testList.size());
+
+        exception.expect(IndexOutOfBoundsException.class);
+        subList.get(4);
+    }
+
+    @Test
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Double> subList = testList.subList(2, 6);
+        testList.clear();
+
+        exception.expect(ConcurrentModificationException.class);
+        subList.get(0);
+    }
+
+    @Test
+    public void testBulkOperations() {
+        PopulateTestList();
+        assertTrue(testList.addAll(1, Arrays.asList(-1.0, -0.5)));
+        assertEquals(SampleSize + 2, testList.size());
+        assertEquals(-0.5, testList.getDouble(2), 0.0);
+        assertTrue(testList.containsAll(Arrays.asList(-1.0, 5.5)));
+        assertFalse(testList.containsAll(Arrays.asList(-1.0, 6.0)));
+
+        assertTrue(testList.removeAll(Arrays.asList(-1.0, -0.5, 1.5)));
+        assertEquals(SampleSize - 1, testList.size());
+        assertFalse(testList.containsDouble(1.5));
+
+        assertTrue(testList.retainAll(Arrays.asList(1.0, 5.5)));
+        assertArrayEquals(new double[]{1.0, 5.5}, testList.toDoubleArray(), 0.0);
+        assertFalse(testList.retainAll(Arrays.asList(1.0, 5.5)));
+    }
+
+    @Test
+    public void testIteratorFailsFast() {
+        PopulateTestList();
+        ListIterator<Double> iterator = testList.listIterator();
+        iterator.next();
+        testList.addDouble(100.0);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testListIteratorModifiesList() {
+        PopulateTestList();
+        ListIterator<Double> iterator = testList.listIterator(2);
+        iterator.next();
+        iterator.remove();
+        iterator.add(100.0);
+        iterator.previous();
+        iterator.set(100.0 + 1);
+
+        assertEquals(SampleSize, testList.size());
+        assertEquals(100.0 + 1, testList.getDouble(2), 0.0);
+        assertEquals(2, iterator.nextIndex());
+    }
+
+    @Test
+    public void testAddAllAtIndexChecksBounds() {
+        PopulateTestList();
+        assertFalse(testList.addAll(SampleSize, Collections.<Double>emptyList()));
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.addAll(SampleSize + 1, Collections.<Double>emptyList());
+    }
+
+    @Before
+    public void initList() {
+        testList = new DoubleArrayList();
+    }
+
+    private void PopulateTestList() {
+        for (int i = 0; i < SampleSize; i++) {
+            testList.addDouble((i + 2) / 2.0);
+        }
+    }
+}
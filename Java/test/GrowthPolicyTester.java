@@ -0,0 +1,64 @@
+import Lists.GrowthPolicy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+
+public class GrowthPolicyTester {
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testDoubling() {
+        GrowthPolicy policy = GrowthPolicy.doubling();
+        assertEquals(8, policy.grow(4, 5));
+        assertEquals(100, policy.grow(4, 100));
+        assertEquals(1, policy.grow(0, 1));
+        assertEquals(16, policy.shrink(16, 0));
+    }
+
+    @Test
+    public void testOneAndAHalf() {
+        GrowthPolicy policy = GrowthPolicy.oneAndAHalf();
+        assertEquals(6, policy.grow(4, 5));
+        assertEquals(15, policy.grow(10, 11));
+        assertEquals(2, policy.grow(1, 2));
+    }
+
+    @Test
+    public void testFixedIncrement() {
+        GrowthPolicy policy = GrowthPolicy.fixedIncrement(10);
+        assertEquals(14, policy.grow(4, 5));
+        assertEquals(50, policy.grow(4, 50));
+    }
+
+    @Test
+    public void testOverflow() {
+        GrowthPolicy policy = GrowthPolicy.doubling();
+        assertEquals(GrowthPolicy.MaxArraySize, policy.grow(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2));
+
+        exception.expect(OutOfMemoryError.class);
+        policy.grow(GrowthPolicy.MaxArraySize, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testCapped() {
+        GrowthPolicy policy = GrowthPolicy.capped(GrowthPolicy.doubling(), 10);
+        assertEquals(8, policy.grow(4, 5));
+        assertEquals(10, policy.grow(8, 9));
+
+        exception.expect(IllegalStateException.class);
+        policy.grow(10, 11);
+    }
+
+    @Test
+    public void testShrinkWithHysteresis() {
+        GrowthPolicy policy = GrowthPolicy.doubling().withShrink(4);
+        assertEquals(64, policy.shrink(64, 17));
+        assertEquals(32, policy.shrink(64, 16));
+        assertEquals(4, policy.shrink(4, 0));
+        assertEquals(4, policy.shrink(8, 0));
+        assertEquals(128, policy.grow(64, 65));
+    }
+}
@@ -0,0 +1,240 @@
+import Lists.IntArrayList;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class IntArrayListTester {
+    private IntArrayList testList;
+    public final int SampleSize = 10;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testAddGet() {
+        PopulateTestList();
+        assertEquals(SampleSize, testList.size());
+        for (int i = 0; i < SampleSize; i++) {
+            assertEquals(i + 2, testList.getInt(i));
+            assertEquals(i + 2, testList.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testSet() {
+        PopulateTestList();
+        assertEquals(2, testList.setInt(0, 100));
+        assertEquals(100, testList.getInt(0));
+        assertEquals(100, testList.set(0, 7).intValue());
+        assertEquals(7, testList.getInt(0));
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.setInt(testList.size(), 10);
+    }
+
+    @Test
+    public void testAddAtIndex() {
+        PopulateTestList();
+        testList.addInt(0, -1);
+        testList.addInt(5, -5);
+        testList.addInt(testList.size(), -10);
+
+        assertEquals(SampleSize + 3, testList.size());
+        assertEquals(-1, testList.getInt(0));
+        assertEquals(-5, testList.getInt(5));
+        assertEquals(-10, testList.getInt(testList.size() - 1));
+        assertEquals(2, testList.getInt(1));
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.addInt(5000, 10);
+    }
+
+    @Test
+    public void testRemove() {
+        PopulateTestList();
+        assertEquals(2, testList.removeInt(0));
+        assertEquals(3, testList.remove(0).intValue());
+        assertTrue(testList.remove(Integer.valueOf(11)));
+        assertFalse(testList.remove(Integer.valueOf(11)));
+        assertEquals(SampleSize - 3, testList.size());
+        assertEquals(10, testList.getInt(testList.size() - 1));
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.removeInt(testList.size());
+    }
+
+    @Test
+    public void testIndexOf() {
+        PopulateTestList();
+        testList.addInt(2);
+        assertEquals(0, testList.indexOfInt(2));
+        assertEquals(SampleSize, testList.lastIndexOfInt(2));
+        assertEquals(3, testList.indexOf(5));
+        assertEquals(-1, testList.indexOf(500));
+        assertEquals(-1, testList.indexOf(null));
+        assertEquals(-1, testList.indexOf(5L));
+        assertTrue(testList.containsInt(11));
+        assertFalse(testList.contains(12));
+    }
+
+    @Test
+    public void testRemoveAllRetainAll() {
+        PopulateTestList();
+        assertTrue(testList.removeAll(Arrays.asList(2, 4, 6)));
+        assertEquals(SampleSize - 3, testList.size());
+        assertTrue(testList.retainAll(Arrays.asList(3, 5)));
+        assertArrayEquals(new int[]{3, 5}, testList.toIntArray());
+    }
+
+    @Test
+    public void testIterator() {
+        PopulateTestList();
+        int expected = 2;
+        for (Integer item : testList) {
+            assertEquals(expected++, item.intValue());
+        }
+        assertEquals(SampleSize + 2, expected);
+
+        PrimitiveIterator.OfInt iterator = testList.intIterator();
+        expected = 2;
+        while (iterator.hasNext()) {
+            assertEquals(expected++, iterator.nextInt());
+        }
+
+        Iterator<Integer> removingIterator = testList.iterator();
+        while (removingIterator.hasNext()) {
+            if (removingIterator.next() % 2 == 0) {
+                removingIterator.remove();
+            }
+        }
+        assertArrayEquals(new int[]{3, 5, 7, 9, 11}, testList.toIntArray());
+    }
+
+    @Test
+    public void testSubList() {
+        PopulateTestList();
+        List<Integer> subList = testList.subList(2, 6);
+        assertEquals(4, subList.size());
+        for (int i = 0; i < subList.size(); i++) {
+            assertEquals(testList.get(i + 2), subList.get(i));
+        }
+        assertEquals(0, testList.subList(3, 3).size());
+        assertEquals(SampleSize, testList.subList(0, SampleSize).size());
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.subList(0, 500);
+    }
+
+    @Test
+    public void testSubListIsLiveView() {
+        PopulateTestList();
+        List<Integer> subList = testList.subList(2, 6);
+
+        assertEquals(4, subList.set(0, 40).intValue());
+        assertEquals(40, testList.getInt(2));
+
+        subList.add(4, 99);
+        assertEquals(SampleSize + 1, testList.size());
+        assertEquals(99, testList.getInt(6));
+
+        subList.remove(0);
+        subList.subList(0, 2).clear();
+        assertEquals(Arrays.asList(7, 99), subList);
+        assertEquals(SampleSize - 2, testList.size());
+        assertArrayEquals(new int[]{2, 3, 7, 99, 8, 9, 10, 11}, testList.toIntArray());
+    }
+
+    @Test
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Integer> subList = testList.subList(2, 6);
+        testList.addInt(100);
+
+        exception.expect(ConcurrentModificationException.class);
+        subList.get(0);
+    }
+
+    @Test
+    public void testAddAllAtIndex() {
+        PopulateTestList();
+        assertTrue(testList.addAll(1, Arrays.asList(-1, -2, -3)));
+        assertEquals(SampleSize + 3, testList.size());
+        assertArrayEquals(new int[]{2, -1, -2, -3, 3, 4}, Arrays.copyOf(testList.toIntArray(), 6));
+        assertTrue(testList.containsAll(Arrays.asList(-3, 11)));
+        assertFalse(testList.containsAll(Arrays.asList(-3, 12)));
+    }
+
+    @Test
+    public void testToArray() {
+        PopulateTestList();
+        Integer[] boxed = testList.toArray(new Integer[0]);
+        assertEquals(SampleSize, boxed.length);
+        assertEquals(2, boxed[0].intValue());
+        assertEquals(SampleSize + 1, boxed[SampleSize - 1].intValue());
+    }
+
+    @Test
+    public void testCapacity() {
+        assertEquals(testList.InitCapacity, testList.capacity());
+        PopulateTestList();
+        assertEquals(testList.InitCapacity * 4, testList.capacity());
+        assertEquals(100, new IntArrayList(100).capacity());
+    }
+
+    @Test
+    public void testIteratorFailsFast() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = testList.listIterator();
+        iterator.next();
+        testList.addInt(100);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testListIteratorModifiesList() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = testList.listIterator(2);
+        iterator.next();
+        iterator.remove();
+        iterator.add(100);
+        iterator.previous();
+        iterator.set(100 + 1);
+
+        assertEquals(SampleSize, testList.size());
+        assertEquals(100 + 1, testList.getInt(2));
+        assertEquals(2, iterator.nextIndex());
+    }
+
+    @Test
+    public void testAddAllAtIndexChecksBounds() {
+        PopulateTestList();
+        assertFalse(testList.addAll(SampleSize, Collections.<Integer>emptyList()));
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.addAll(SampleSize + 1, Collections.<Integer>emptyList());
+    }
+
+    @Before
+    public void initList() {
+        testList = new IntArrayList();
+    }
+
+    private void PopulateTestList() {
+        for (int i = 0; i < SampleSize; i++) {
+            testList.addInt(i + 2);
+        }
+    }
+}
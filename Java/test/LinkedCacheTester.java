@@ -0,0 +1,190 @@
+import Lists.LinkedCache;
+import Lists.LinkedCache.EvictionPolicy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LinkedCacheTester {
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testLruEvictsLeastRecentlyUsed() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(3, EvictionPolicy.LRU);
+        List<Integer> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        assertEquals("a", cache.get(1));
+        cache.put(4, "d");
+
+        assertEquals(Arrays.asList(2), evicted);
+        assertFalse(cache.containsKey(2));
+        assertEquals(Arrays.asList(3, 1, 4), cache.evictionOrder());
+        assertNull(cache.get(2));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testLfuEvictsLeastFrequentlyUsed() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(3, EvictionPolicy.LFU);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+        cache.get(1);
+        cache.get(3);
+
+        assertEquals(Arrays.asList(2, 3, 1), cache.evictionOrder());
+        cache.put(4, "d");
+        assertFalse(cache.containsKey(2));
+
+        cache.put(5, "e");
+        assertFalse(cache.containsKey(4));
+        assertEquals(Arrays.asList(5, 3, 1), cache.evictionOrder());
+    }
+
+    @Test
+    public void testSegmentedLruProtectsEntriesHitBefore() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(5, EvictionPolicy.SEGMENTED_LRU);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(i, "v" + i);
+        }
+        cache.get(1);
+        cache.get(2);
+
+        for (int i = 10; i < 20; i++) {
+            cache.put(i, "scan");
+        }
+        assertTrue(cache.containsKey(1));
+        assertTrue(cache.containsKey(2));
+        assertFalse(cache.containsKey(3));
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void testSegmentedLruDemotesWhenProtectedIsFull() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(5, EvictionPolicy.SEGMENTED_LRU);
+        for (int i = 1; i <= 5; i++) {
+            cache.put(i, "v" + i);
+            cache.get(i);
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), cache.evictionOrder());
+
+        cache.put(6, "v6");
+        assertFalse(cache.containsKey(1));
+    }
+
+    @Test
+    public void testLruNewEntryIsNotItsOwnVictim() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(1, EvictionPolicy.LRU);
+        List<String> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put("A", 1);
+        cache.get("A");
+        cache.put("B", 2);
+
+        assertEquals(Arrays.asList("A"), evicted);
+        assertEquals(Arrays.asList("B"), cache.evictionOrder());
+    }
+
+    @Test
+    public void testLfuNewEntryIsNotItsOwnVictim() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(2, EvictionPolicy.LFU);
+        List<String> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put("A", 1);
+        cache.get("A");
+        cache.put("B", 2);
+        cache.get("B");
+        cache.put("C", 3);
+
+        assertEquals(Arrays.asList("A"), evicted);
+        assertTrue(cache.containsKey("C"));
+        assertEquals(Arrays.asList("C", "B"), cache.evictionOrder());
+    }
+
+    @Test
+    public void testSegmentedLruNewEntryIsNotItsOwnVictim() {
+        LinkedCache<String, Integer> cache = new LinkedCache<>(1, EvictionPolicy.SEGMENTED_LRU);
+        List<String> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put("A", 1);
+        cache.get("A");
+        cache.put("B", 2);
+
+        assertEquals(Arrays.asList("A"), evicted);
+        assertTrue(cache.containsKey("B"));
+        assertEquals(Arrays.asList("B"), cache.evictionOrder());
+    }
+
+    @Test
+    public void testHeavierUpdateEvictsOtherEntries() {
+        LinkedCache<String, String> cache = new LinkedCache<>(4, EvictionPolicy.LFU, (key, value) -> value.length());
+        cache.put("a", "1");
+        cache.put("b", "1");
+        cache.put("c", "1");
+
+        cache.put("a", "123");
+        assertEquals(Arrays.asList("c", "a"), cache.evictionOrder());
+        assertEquals(4, cache.getWeight());
+    }
+
+    @Test
+    public void testWeightBound() {
+        LinkedCache<String, String> cache = new LinkedCache<>(10, EvictionPolicy.LRU, (key, value) -> value.length());
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(9, cache.getWeight());
+
+        cache.put("c", "123");
+        assertFalse(cache.containsKey("a"));
+        assertEquals(7, cache.getWeight());
+
+        assertEquals("1234", cache.put("b", "1234567"));
+        assertEquals(10, cache.getWeight());
+
+        cache.put("d", "12345678901");
+        assertFalse(cache.containsKey("d"));
+        assertEquals(10, cache.getWeight());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void testRemoveAndClearDoNotNotify() {
+        LinkedCache<Integer, String> cache = new LinkedCache<>(2, EvictionPolicy.LFU);
+        cache.setEvictionListener((key, value) -> fail());
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.get(2);
+
+        assertEquals("a", cache.remove(1));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+
+        cache.put(3, "c");
+        assertEquals("c", cache.get(3));
+    }
+
+    @Test
+    public void testNegativeWeightIsRejected() {
+        LinkedCache<Integer, Integer> cache = new LinkedCache<>(10, EvictionPolicy.LRU, (key, value) -> value);
+        exception.expect(IllegalArgumentException.class);
+        cache.put(1, -1);
+    }
+}
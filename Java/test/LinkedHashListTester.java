@@ -0,0 +1,81 @@
+import Lists.LinkedHashList;
+import Lists.LinkedList;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class LinkedHashListTester extends ListTester {
+    public LinkedHashListTester() {
+        super(new LinkedHashList<>(Integer.class));
+    }
+
+    @Test
+    public void testNullElements() {
+        PopulateTestList();
+        assertFalse(getHashList().contains(null));
+        assertEquals(-1, getHashList().indexOf(null));
+
+        getHashList().add(3, null);
+        assertTrue(getHashList().contains(null));
+        assertEquals(3, getHashList().indexOf(null));
+
+        assertTrue(getHashList().remove(null));
+        assertFalse(getHashList().contains(null));
+        assertEquals(SampleSize, getHashList().size());
+    }
+
+    @Test
+    public void testDuplicatesRemoveFirstOccurrence() {
+        getHashList().add(1);
+        getHashList().add(2);
+        getHashList().add(1);
+        getHashList().add(3);
+
+        assertTrue(getHashList().remove((Integer) 1));
+        assertEquals(Arrays.asList(2, 1, 3), Arrays.asList(getHashList().toArray()));
+        assertTrue(getHashList().contains(1));
+
+        assertTrue(getHashList().remove((Integer) 1));
+        assertFalse(getHashList().contains(1));
+        assertFalse(getHashList().remove((Integer) 1));
+    }
+
+    @Test
+    public void testSetAndRemoveIndexUpdateIndex() {
+        PopulateTestList();
+        getHashList().set(0, 100);
+        assertFalse(getHashList().contains(2));
+        assertTrue(getHashList().contains(100));
+
+        getHashList().remove(getHashList().size() - 1);
+        assertFalse(getHashList().contains(11));
+        assertEquals(100, getHashList().getFirst().intValue());
+        assertEquals(10, getHashList().getLast().intValue());
+    }
+
+    @Test
+    public void testSplitAndSpliceKeepIndexesInStep() {
+        PopulateTestList();
+        LinkedList<Integer> upper = getHashList().splitAt(5);
+        assertTrue(upper instanceof LinkedHashList);
+        assertFalse(getHashList().contains(7));
+        assertTrue(upper.contains(7));
+
+        LinkedHashList<Integer> other = new LinkedHashList<>(Integer.class);
+        other.add(-1);
+        getHashList().spliceAt(2, other);
+        assertTrue(getHashList().contains(-1));
+        assertFalse(other.contains(-1));
+
+        getHashList().transferAll(upper);
+        assertTrue(getHashList().contains(11));
+        assertFalse(upper.contains(11));
+        assertEquals(SampleSize + 1, getHashList().size());
+    }
+
+    private LinkedHashList<Integer> getHashList() {
+        return (LinkedHashList<Integer>) testList;
+    }
+}
@@ -0,0 +1,79 @@
+import Lists.LinkedList;
+import Lists.LinkedListNodePool;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class LinkedListNodePoolTester {
+    @Test
+    public void testRemovedNodesAreReused() {
+        LinkedListNodePool pool = new LinkedListNodePool(8);
+        LinkedList<Integer> list = new LinkedList<>(Integer.class, pool);
+        for (int i = 0; i < 5; i++) {
+            list.addLast(i);
+        }
+        assertEquals(0, pool.getHits());
+        assertEquals(5, pool.getMisses());
+
+        list.remove(0);
+        list.remove(Integer.valueOf(3));
+        assertEquals(2, pool.getPooledCount());
+
+        list.addFirst(10);
+        list.add(2, 20);
+        list.addLast(30);
+        assertEquals(2, pool.getHits());
+        assertEquals(6, pool.getMisses());
+        assertEquals(0, pool.getPooledCount());
+        assertEquals(Arrays.asList(10, 1, 20, 2, 4, 30), Arrays.asList(list.toArray()));
+        assertEquals(30, list.getLast().intValue());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        LinkedListNodePool pool = new LinkedListNodePool(3);
+        LinkedList<Integer> list = new LinkedList<>(Integer.class, pool);
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+
+        list.clear();
+        assertEquals(3, pool.getPooledCount());
+        assertTrue(list.isEmpty());
+        assertNull(list.getFirst());
+        assertNull(list.getLast());
+    }
+
+    @Test
+    public void testSharedThreadPool() {
+        LinkedListNodePool pool = LinkedListNodePool.forCurrentThread();
+        assertSame(pool, LinkedListNodePool.forCurrentThread());
+        pool.resetCounters();
+
+        LinkedList<Integer> first = new LinkedList<>(Integer.class, pool);
+        LinkedList<Integer> second = new LinkedList<>(Integer.class, pool);
+        first.addLast(1);
+        first.remove(0);
+        second.addLast(2);
+
+        assertEquals(1, pool.getHits());
+        assertEquals(2, second.getFirst().intValue());
+        assertTrue(first.isEmpty());
+    }
+
+    @Test
+    public void testRemoveLastElementResetsTail() {
+        LinkedList<Integer> list = new LinkedList<>(Integer.class, new LinkedListNodePool());
+        list.addFirst(1);
+        assertEquals(1, list.getLast().intValue());
+
+        list.remove(0);
+        assertNull(list.getLast());
+
+        list.addLast(2);
+        list.addLast(3);
+        assertEquals(Arrays.asList(2, 3), Arrays.asList(list.toArray()));
+    }
+}
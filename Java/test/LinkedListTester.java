@@ -1,7 +1,14 @@
 import Lists.LinkedList;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
 
 public class LinkedListTester extends ListTester {
     public LinkedListTester() {
@@ -44,6 +51,144 @@ public class LinkedListTester extends ListTester {
         assertEquals(500, getLinkedList().getLast().intValue());
     }
 
+    @Test
+    public void testIndexedAccessFromBothEnds() {
+        PopulateTestList();
+        for (int i = getLinkedList().size() - 1; i >= 0; i--) {
+            assertEquals(i + 2, getLinkedList().get(i).intValue());
+        }
+        assertEquals(11, getLinkedList().get(9).intValue());
+        assertEquals(2, getLinkedList().get(0).intValue());
+        assertEquals(7, getLinkedList().get(5).intValue());
+    }
+
+    @Test
+    public void testFingerFollowsStructuralChanges() {
+        PopulateTestList();
+        assertEquals(7, getLinkedList().get(5).intValue());
+
+        getLinkedList().addFirst(1);
+        assertEquals(7, getLinkedList().get(6).intValue());
+
+        getLinkedList().add(6, 100);
+        assertEquals(100, getLinkedList().get(6).intValue());
+        assertEquals(7, getLinkedList().get(7).intValue());
+
+        getLinkedList().remove(7);
+        assertEquals(8, getLinkedList().get(7).intValue());
+
+        getLinkedList().remove(getLinkedList().size() - 1);
+        assertEquals(10, getLinkedList().get(getLinkedList().size() - 1).intValue());
+
+        getLinkedList().remove((Integer) 100);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 8, 9, 10), getLinkedList());
+        for (int i = 0; i < getLinkedList().size(); i++) {
+            getLinkedList().set(i, getLinkedList().get(i) * 2);
+        }
+        assertEquals(Arrays.asList(2, 4, 6, 8, 10, 12, 16, 18, 20), getLinkedList());
+    }
+
+    @Test
+    public void testTransferAll() {
+        PopulateTestList();
+        LinkedList<Integer> other = new LinkedList<>(Integer.class);
+        other.add(100);
+        other.add(101);
+
+        getLinkedList().transferAll(other);
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 100, 101), getLinkedList());
+        assertEquals(101, getLinkedList().getLast().intValue());
+        assertTrue(other.isEmpty());
+        assertNull(other.getFirst());
+
+        other.transferAll(getLinkedList());
+        assertEquals(SampleSize + 2, other.size());
+        assertTrue(getLinkedList().isEmpty());
+    }
+
+    @Test
+    public void testSplitAt() {
+        PopulateTestList();
+        LinkedList<Integer> upper = getLinkedList().splitAt(4);
+        assertEquals(Arrays.asList(2, 3, 4, 5), getLinkedList());
+        assertEquals(Arrays.asList(6, 7, 8, 9, 10, 11), upper);
+        assertEquals(5, getLinkedList().getLast().intValue());
+        assertEquals(6, upper.getFirst().intValue());
+
+        assertTrue(getLinkedList().splitAt(4).isEmpty());
+        LinkedList<Integer> all = getLinkedList().splitAt(0);
+        assertTrue(getLinkedList().isEmpty());
+        assertNull(getLinkedList().getLast());
+        assertEquals(Arrays.asList(2, 3, 4, 5), all);
+    }
+
+    @Test
+    public void testSpliceAt() {
+        PopulateTestList();
+        LinkedList<Integer> other = new LinkedList<>(Integer.class);
+        other.add(-1);
+        other.add(-2);
+
+        assertEquals(5, getLinkedList().get(3).intValue());
+        getLinkedList().spliceAt(3, other);
+        assertEquals(Arrays.asList(2, 3, 4, -1, -2, 5, 6, 7, 8, 9, 10, 11), getLinkedList());
+        assertEquals(5, getLinkedList().get(5).intValue());
+        assertTrue(other.isEmpty());
+
+        other.add(0);
+        getLinkedList().spliceAt(0, other);
+        assertEquals(0, getLinkedList().getFirst().intValue());
+        assertEquals(SampleSize + 3, getLinkedList().size());
+
+        exception.expect(IllegalArgumentException.class);
+        getLinkedList().spliceAt(0, getLinkedList());
+    }
+
+    @Test
+    public void testForEachAndIteratorRemove() {
+        PopulateTestList();
+        int expected = 2;
+        for (int item : getLinkedList()) {
+            assertEquals(expected++, item);
+        }
+
+        Iterator<Integer> iterator = getLinkedList().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Arrays.asList(3, 5, 7, 9, 11), getLinkedList());
+    }
+
+    @Test
+    public void testIteratorIsFailFast() {
+        PopulateTestList();
+        Iterator<Integer> iterator = getLinkedList().iterator();
+        iterator.next();
+        getLinkedList().add(100);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testSpliteratorSplitsIntoBatches() {
+        for (int i = 0; i < 5000; i++) {
+            getLinkedList().add(i);
+        }
+
+        Spliterator<Integer> spliterator = getLinkedList().spliterator();
+        Spliterator<Integer> batch = spliterator.trySplit();
+        assertEquals(1024, batch.estimateSize());
+        assertEquals(5000 - 1024, spliterator.estimateSize());
+        assertEquals(2048, spliterator.trySplit().estimateSize());
+
+        long sum = StreamSupport.stream(getLinkedList().spliterator(), true).mapToLong(Integer::longValue).sum();
+        assertEquals(4999L * 5000 / 2, sum);
+        assertEquals(Arrays.asList(getLinkedList().toArray()), getLinkedList().parallelStream().collect(Collectors.toList()));
+    }
+
     private LinkedList<Integer> getLinkedList() {
         return (LinkedList<Integer>) testList;
     }
@@ -0,0 +1,143 @@
+import Lists.LockFreeLinkedDeque;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+public class LockFreeLinkedDequeTester {
+    private LockFreeLinkedDeque<Integer> deque;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void init() {
+        deque = new LockFreeLinkedDeque<>();
+    }
+
+    @Test
+    public void testBothEnds() {
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.addFirst(1);
+        deque.addFirst(0);
+        assertEquals(4, deque.size());
+        assertEquals(0, deque.peekFirst().intValue());
+        assertEquals(3, deque.peekLast().intValue());
+
+        assertEquals(0, deque.pollFirst().intValue());
+        assertEquals(3, deque.pollLast().intValue());
+        assertEquals(2, deque.pollLast().intValue());
+        assertEquals(1, deque.pollLast().intValue());
+        assertNull(deque.pollFirst());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void testIteratorWalksFrontToBack() {
+        for (int i = 0; i < 5; i++) {
+            deque.addLast(i);
+            deque.addFirst(-i - 1);
+        }
+        assertEquals(Arrays.asList(-5, -4, -3, -2, -1, 0, 1, 2, 3, 4), toList(deque.iterator()));
+    }
+
+    @Test
+    public void testIteratorIsWeaklyConsistent() {
+        for (int i = 0; i < 5; i++) {
+            deque.addLast(i);
+        }
+        Iterator<Integer> iterator = deque.iterator();
+        assertEquals(0, iterator.next().intValue());
+
+        deque.pollFirst();
+        deque.pollFirst();
+        deque.pollLast();
+        deque.addLast(10);
+        deque.addLast(11);
+        assertEquals(Arrays.asList(1, 2, 3, 10), toList(iterator));
+    }
+
+    @Test
+    public void testNullElementsAreRejected() {
+        exception.expect(NullPointerException.class);
+        deque.addFirst(null);
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        final int threads = 4;
+        final int perThread = 20000;
+        final AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            final boolean front = t % 2 == 0;
+            workers.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perThread; i++) {
+                    if (front) {
+                        deque.addFirst(base + i);
+                    } else {
+                        deque.addLast(base + i);
+                    }
+                }
+            }));
+            workers.add(new Thread(() -> {
+                awaitQuietly(start);
+                int taken = 0;
+                while (taken < perThread) {
+                    Integer item = front ? deque.pollLast() : deque.pollFirst();
+                    if (item != null) {
+                        seen.incrementAndGet(item);
+                        taken++;
+                    }
+                }
+            }));
+        }
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join(30000);
+        }
+
+        assertTrue(deque.isEmpty());
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+    }
+
+    private static List<Integer> toList(Iterator<Integer> iterator) {
+        List<Integer> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+import Lists.LongArrayList;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.*;
+
+public class LongArrayListTester {
+    private LongArrayList testList;
+    public final int SampleSize = 10;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testAddGetRemove() {
+        testList.addLong(Long.MAX_VALUE);
+        testList.addLong(1L);
+        testList.add(0, Long.MIN_VALUE);
+
+        assertEquals(3, testList.size());
+        assertEquals(Long.MIN_VALUE, testList.getLong(0));
+        assertEquals(Long.MAX_VALUE, testList.get(1).longValue());
+        assertEquals(2, testList.indexOfLong(1L));
+        assertEquals(-1, testList.indexOf(1));
+
+        assertEquals(Long.MAX_VALUE, testList.removeLong(1));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 1L}, testList.toLongArray());
+    }
+
+    @Test
+    public void testIterator() {
+        for (long i = 0; i < 10; i++) {
+            testList.addLong(i * 3);
+        }
+
+        PrimitiveIterator.OfLong iterator = testList.longIterator();
+        long expected = 0;
+        while (iterator.hasNext()) {
+            assertEquals(expected, iterator.nextLong());
+            expected += 3;
+        }
+        assertEquals(30, expected);
+    }
+
+    @Test
+    public void testSubListIsLiveView() {
+        PopulateTestList();
+        List<Long> subList = testList.subList(2, 6);
+        assertEquals(4, subList.size());
+
+        assertEquals(4L, subList.set(0, 40L).longValue());
+        assertEquals(40L, testList.getLong(2));
+
+        subList.add(4, 99L);
+        assertEquals(SampleSize + 1, testList.size());
+        assertEquals(99L, testList.getLong(6));
+
+        subList.remove(0);
+        assertEquals(Arrays.asList(5L, 6L, 7L, 99L), subList);
+        assertEquals(SampleSize, testList.size());
+
+        exception.expect(IndexOutOfBoundsException.class);
+        subList.get(4);
+    }
+
+    @Test
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Long> subList = testList.subList(2, 6);
+        testList.removeLong(0);
+
+        exception.expect(ConcurrentModificationException.class);
+        subList.size();
+    }
+
+    @Test
+    public void testBulkOperations() {
+        PopulateTestList();
+        assertTrue(testList.addAll(1, Arrays.asList(-1L, -2L)));
+        assertEquals(SampleSize + 2, testList.size());
+        assertEquals(-2L, testList.getLong(2));
+        assertTrue(testList.containsAll(Arrays.asList(-1L, 11L)));
+        assertFalse(testList.containsAll(Arrays.asList(-1L, 12L)));
+
+        assertTrue(testList.removeAll(Arrays.asList(-1L, -2L, 3L)));
+        assertEquals(SampleSize - 1, testList.size());
+        assertFalse(testList.containsLong(3L));
+
+        assertTrue(testList.retainAll(Arrays.asList(2L, 11L)));
+        assertArrayEquals(new long[]{2L, 11L}, testList.toLongArray());
+        assertFalse(testList.retainAll(Arrays.asList(2L, 11L)));
+    }
+
+    @Test
+    public void testIteratorFailsFast() {
+        PopulateTestList();
+        ListIterator<Long> iterator = testList.listIterator();
+        iterator.next();
+        testList.addLong(100L);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testListIteratorModifiesList() {
+        PopulateTestList();
+        ListIterator<Long> iterator = testList.listIterator(2);
+        iterator.next();
+        iterator.remove();
+        iterator.add(100L);
+        iterator.previous();
+        iterator.set(100L + 1);
+
+        assertEquals(SampleSize, testList.size());
+        assertEquals(100L + 1, testList.getLong(2));
+        assertEquals(2, iterator.nextIndex());
+    }
+
+    @Test
+    public void testAddAllAtIndexChecksBounds() {
+        PopulateTestList();
+        assertFalse(testList.addAll(SampleSize, Collections.<Long>emptyList()));
+
+        exception.expect(IndexOutOfBoundsException.class);
+        testList.addAll(SampleSize + 1, Collections.<Long>emptyList());
+    }
+
+    @Before
+    public void initList() {
+        testList = new LongArrayList();
+    }
+
+    private void PopulateTestList() {
+        for (int i = 0; i < SampleSize; i++) {
+            testList.addLong(i + 2);
+        }
+    }
+}
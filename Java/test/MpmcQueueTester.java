@@ -0,0 +1,158 @@
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class MpmcQueueTester {
+    private MpmcQueue<Integer> testQueue;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void initQueue() {
+        testQueue = new MpmcQueue<>(Integer.class, 4);
+    }
+
+    @Test
+    public void testEnqueueDequeue() {
+        assertEquals(4, testQueue.getCapacity());
+        assertTrue(testQueue.isEmpty());
+
+        testQueue.enqueue(1);
+        testQueue.enqueue(2);
+        testQueue.enqueue(3);
+        assertEquals(3, testQueue.size());
+        assertEquals(1, testQueue.peek().intValue());
+
+        assertEquals(1, testQueue.dequeue().intValue());
+        assertEquals(2, testQueue.dequeue().intValue());
+        assertEquals(3, testQueue.dequeue().intValue());
+        assertTrue(testQueue.isEmpty());
+    }
+
+    @Test
+    public void testOfferAndPollReportFullAndEmpty() {
+        assertNull(testQueue.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(testQueue.offer(i));
+        }
+        assertFalse(testQueue.offer(4));
+        assertEquals(4, testQueue.size());
+
+        assertEquals(0, testQueue.poll().intValue());
+        assertTrue(testQueue.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, testQueue.poll().intValue());
+        }
+        assertNull(testQueue.poll());
+    }
+
+    @Test
+    public void testEnqueueWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            testQueue.enqueue(i);
+        }
+        exception.expect(IllegalStateException.class);
+        testQueue.enqueue(4);
+    }
+
+    @Test
+    public void testDequeueWhenEmpty() {
+        exception.expect(NoSuchElementException.class);
+        testQueue.dequeue();
+    }
+
+    @Test
+    public void testPeekWhenEmpty() {
+        exception.expect(NoSuchElementException.class);
+        testQueue.peek();
+    }
+
+    @Test
+    public void testWrapAround() {
+        for (int i = 0; i < 1000; i++) {
+            testQueue.enqueue(i);
+            testQueue.enqueue(-i);
+            assertEquals(i, testQueue.dequeue().intValue());
+            assertEquals(-i, testQueue.dequeue().intValue());
+        }
+        assertEquals(0, testQueue.size());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        final int threadCount = 4;
+        final int itemsPerProducer = 50_000;
+        final MpmcQueue<Integer> queue = new MpmcQueue<>(Integer.class, 128);
+        final AtomicIntegerArray seen = new AtomicIntegerArray(threadCount * itemsPerProducer);
+        final AtomicLong consumed = new AtomicLong();
+        final AtomicBoolean outOfOrder = new AtomicBoolean();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount * 2];
+
+        for (int p = 0; p < threadCount; p++) {
+            final int base = p * itemsPerProducer;
+            threads[p] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < itemsPerProducer; i++) {
+                    while (!queue.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < threadCount; c++) {
+            threads[threadCount + c] = new Thread(() -> {
+                awaitQuietly(start);
+                int[] lastFromProducer = new int[threadCount];
+                Arrays.fill(lastFromProducer, -1);
+                while (consumed.get() < threadCount * itemsPerProducer) {
+                    Integer item = queue.poll();
+                    if (item == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    seen.incrementAndGet(item);
+                    int producer = item / itemsPerProducer;
+                    if (item <= lastFromProducer[producer]) {
+                        outOfOrder.set(true);
+                    }
+                    lastFromProducer[producer] = item;
+                    consumed.incrementAndGet();
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(outOfOrder.get());
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+import Lists.OffHeapRecordList;
+import Lists.RecordLayout;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OffHeapRecordListTester {
+    private static final int Id = 0;
+    private static final int Timestamp = 1;
+    private static final int Score = 2;
+
+    private OffHeapRecordList testList;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testLayout() {
+        RecordLayout layout = testList.layout();
+        assertEquals(16, layout.recordSize());
+        assertEquals(0, layout.offsetOf(Id));
+        assertEquals(8, layout.offsetOf(Timestamp));
+        assertEquals(12, layout.offsetOf(Score));
+    }
+
+    @Test
+    public void testAddAndAccessFields() {
+        PopulateTestList(1000);
+        assertEquals(1000, testList.size());
+        assertTrue(testList.capacity() >= 1000);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 1000000007L, testList.getLong(i, Id));
+            assertEquals(i, testList.getInt(i, Timestamp));
+            assertEquals(i / 2.0f, testList.getFloat(i, Score), 0.0f);
+        }
+    }
+
+    @Test
+    public void testRemoveRecord() {
+        PopulateTestList(10);
+        testList.removeRecord(0);
+        testList.removeRecord(4);
+
+        assertEquals(8, testList.size());
+        assertEquals(1, testList.getInt(0, Timestamp));
+        assertEquals(4, testList.getInt(3, Timestamp));
+        assertEquals(6, testList.getInt(4, Timestamp));
+        assertEquals(9, testList.getInt(7, Timestamp));
+    }
+
+    @Test
+    public void testFlyweight() {
+        PopulateTestList(5);
+        OffHeapRecordList.Record record = testList.record(0);
+        long sum = 0;
+        for (int i = 0; i < testList.size(); i++) {
+            sum += record.moveTo(i).getInt(Timestamp);
+        }
+        assertEquals(10, sum);
+
+        record.moveTo(2).setFloat(Score, 42.5f);
+        assertEquals(42.5f, testList.getFloat(2, Score), 0.0f);
+    }
+
+    @Test
+    public void testListView() {
+        PopulateTestList(5);
+        List<OffHeapRecordList.Record> view = testList.asList();
+        assertEquals(5, view.size());
+        assertEquals(3, view.get(3).getInt(Timestamp));
+
+        view.add(0, view.get(4));
+        assertEquals(6, testList.size());
+        assertEquals(4, testList.getInt(0, Timestamp));
+        assertEquals(0, testList.getInt(1, Timestamp));
+        assertEquals(view.get(0), view.get(5));
+        assertEquals(0, view.indexOf(view.get(5)));
+
+        view.set(1, view.get(2));
+        assertEquals(1, testList.getInt(1, Timestamp));
+
+        view.remove(0);
+        assertEquals(5, view.size());
+    }
+
+    @Test
+    public void testListViewReturnsDetachedOldRecords() {
+        PopulateTestList(5);
+        List<OffHeapRecordList.Record> view = testList.asList();
+
+        OffHeapRecordList.Record replaced = view.set(1, view.get(3));
+        assertEquals(1, replaced.getInt(Timestamp));
+        assertEquals(1000000007L, replaced.getLong(Id));
+        assertEquals(3, testList.getInt(1, Timestamp));
+        assertNotEquals(replaced, view.get(1));
+
+        OffHeapRecordList.Record removed = view.remove(0);
+        assertEquals(0, removed.getInt(Timestamp));
+        assertEquals(0.0f, removed.getFloat(Score), 0.0f);
+        assertEquals(4, view.size());
+
+        testList.setInt(0, Timestamp, 42);
+        assertEquals(0, removed.getInt(Timestamp));
+        assertEquals(1, replaced.getInt(Timestamp));
+        assertEquals(-1, view.indexOf(removed));
+    }
+
+    @Test
+    public void testListViewIteratorFailsFast() {
+        PopulateTestList(3);
+        List<OffHeapRecordList.Record> view = testList.asList();
+        Iterator<OffHeapRecordList.Record> iterator = view.iterator();
+        iterator.next();
+        view.remove(2);
+
+        exception.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void testOddSizedRecordsCopyCompareAndZero() {
+        RecordLayout layout = new RecordLayout(RecordLayout.FieldType.LONG, RecordLayout.FieldType.SHORT, RecordLayout.FieldType.BYTE);
+        try (OffHeapRecordList source = new OffHeapRecordList(layout); OffHeapRecordList target = new OffHeapRecordList(layout)) {
+            int index = source.addRecord();
+            source.setLong(index, 0, -1L);
+            source.setShort(index, 1, (short) 7);
+            source.setByte(index, 2, (byte) -3);
+
+            target.asList().add(source.record(index));
+            assertEquals(source.record(index), target.record(0));
+            assertEquals(source.record(index).hashCode(), target.record(0).hashCode());
+            assertEquals((byte) -3, target.getByte(0, 2));
+
+            target.setByte(0, 2, (byte) 4);
+            assertNotEquals(source.record(index), target.record(0));
+
+            target.removeRecord(0);
+            target.addRecord();
+            assertEquals(0L, target.getLong(0, 0));
+            assertEquals((short) 0, target.getShort(0, 1));
+            assertEquals((byte) 0, target.getByte(0, 2));
+        }
+    }
+
+    @Test
+    public void testWrongFieldType() {
+        PopulateTestList(1);
+        exception.expect(IllegalArgumentException.class);
+        testList.getInt(0, Id);
+    }
+
+    @Test
+    public void testClose() {
+        PopulateTestList(3);
+        testList.close();
+        assertTrue(testList.isClosed());
+        testList.close();
+
+        exception.expect(IllegalStateException.class);
+        testList.getLong(0, Id);
+    }
+
+    @Before
+    public void initList() {
+        RecordLayout layout = new RecordLayout(RecordLayout.FieldType.LONG, RecordLayout.FieldType.INT, RecordLayout.FieldType.FLOAT);
+        testList = new OffHeapRecordList(layout, 2);
+    }
+
+    @After
+    public void closeList() {
+        testList.close();
+    }
+
+    private void PopulateTestList(int recordCount) {
+        for (int i = 0; i < recordCount; i++) {
+            int index = testList.addRecord();
+            testList.setLong(index, Id, i * 1000000007L);
+            testList.setInt(index, Timestamp, i);
+            testList.setFloat(index, Score, i / 2.0f);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PriorityQueueTester {
+    private PriorityQueue<Integer> testQueue;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void initQueue() {
+        testQueue = new PriorityQueue<>(Integer.class);
+    }
+
+    @Test
+    public void testEnqueueDequeueInOrder() {
+        int[] values = {5, 3, 9, 1, 7, 3, 8, 2, 6, 4, 0};
+        for (int value : values) {
+            testQueue.enqueue(value);
+        }
+        assertEquals(values.length, testQueue.size());
+        assertEquals(PriorityQueue.DefaultArity, testQueue.getArity());
+        assertEquals(0, testQueue.peek().intValue());
+
+        int[] expected = {0, 1, 2, 3, 3, 4, 5, 6, 7, 8, 9};
+        for (int value : expected) {
+            assertEquals(value, testQueue.dequeue().intValue());
+        }
+        assertTrue(testQueue.isEmpty());
+        assertNull(testQueue.poll());
+    }
+
+    @Test
+    public void testDequeueWhenEmpty() {
+        exception.expect(NoSuchElementException.class);
+        testQueue.dequeue();
+    }
+
+    @Test
+    public void testInvalidArity() {
+        exception.expect(InvalidParameterException.class);
+        new PriorityQueue<>(Integer.class, 1, 4, null);
+    }
+
+    @Test
+    public void testComparator() {
+        PriorityQueue<String> queue = new PriorityQueue<>(String.class, Comparator.comparing(String::length));
+        queue.enqueue("ccc");
+        queue.enqueue("a");
+        queue.enqueue("bb");
+
+        assertEquals("a", queue.dequeue());
+        assertEquals("bb", queue.dequeue());
+        assertEquals("ccc", queue.dequeue());
+    }
+
+    @Test
+    public void testGrowth() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Integer.class, 3, 1, null);
+        for (int i = 100; i > 0; i--) {
+            queue.enqueue(i);
+        }
+        assertTrue(queue.getCapacity() >= 100);
+        for (int i = 1; i <= 100; i++) {
+            assertEquals(i, queue.dequeue().intValue());
+        }
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        int a = testQueue.enqueue(10);
+        int b = testQueue.enqueue(20);
+        int c = testQueue.enqueue(30);
+
+        testQueue.decreaseKey(c, 5);
+        assertEquals(c, testQueue.peekHandle());
+        assertEquals(5, testQueue.get(c).intValue());
+
+        testQueue.decreaseKey(b, 1);
+        assertEquals(1, testQueue.dequeue().intValue());
+        assertFalse(testQueue.contains(b));
+        assertEquals(5, testQueue.dequeue().intValue());
+        assertEquals(a, testQueue.peekHandle());
+    }
+
+    @Test
+    public void testDecreaseKeyRejectsLargerItem() {
+        int handle = testQueue.enqueue(10);
+        exception.expect(IllegalArgumentException.class);
+        testQueue.decreaseKey(handle, 11);
+    }
+
+    @Test
+    public void testRemoveByHandle() {
+        int[] handles = new int[10];
+        for (int i = 0; i < 10; i++) {
+            handles[i] = testQueue.enqueue(i);
+        }
+
+        assertEquals(4, testQueue.remove(handles[4]).intValue());
+        assertEquals(0, testQueue.remove(handles[0]).intValue());
+        assertEquals(9, testQueue.remove(handles[9]).intValue());
+        assertFalse(testQueue.contains(handles[4]));
+
+        int[] expected = {1, 2, 3, 5, 6, 7, 8};
+        for (int value : expected) {
+            assertEquals(value, testQueue.dequeue().intValue());
+        }
+    }
+
+    @Test
+    public void testRemovedHandleIsInvalid() {
+        int handle = testQueue.enqueue(1);
+        testQueue.remove(handle);
+        exception.expect(NoSuchElementException.class);
+        testQueue.remove(handle);
+    }
+
+    @Test
+    public void testHandlesAreReused() {
+        int first = testQueue.enqueue(1);
+        testQueue.enqueue(2);
+        testQueue.dequeue();
+
+        int reused = testQueue.enqueue(3);
+        assertEquals(first, reused);
+        assertEquals(3, testQueue.get(reused).intValue());
+        assertEquals(2, testQueue.size());
+    }
+
+    @Test
+    public void testHeapifyConstructor() {
+        Integer[] items = {9, 4, 7, 1, 8, 2, 6, 3, 5, 0};
+        PriorityQueue<Integer> queue = new PriorityQueue<>(items, 4, null);
+        assertEquals(items.length, queue.size());
+
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i], queue.get(i));
+        }
+        queue.decreaseKey(0, -1);
+        assertEquals(-1, queue.dequeue().intValue());
+        for (int i = 0; i <= 8; i++) {
+            assertEquals(i, queue.dequeue().intValue());
+        }
+        assertTrue(queue.isEmpty());
+
+        assertTrue(new PriorityQueue<>(new Integer[0], 2, null).isEmpty());
+    }
+
+    @Test
+    public void testRandomOperationsAgainstSortedList() {
+        Random random = new Random(25);
+        for (int arity = 2; arity <= 8; arity++) {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(Integer.class, arity, 4, null);
+            List<Integer> liveHandles = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+
+            for (int op = 0; op < 2000; op++) {
+                int choice = random.nextInt(4);
+                if (choice < 2 || expected.isEmpty()) {
+                    int value = random.nextInt(1000);
+                    liveHandles.add(queue.enqueue(value));
+                    expected.add(value);
+                } else if (choice == 2) {
+                    int handle = liveHandles.remove(random.nextInt(liveHandles.size()));
+                    Integer removed = queue.remove(handle);
+                    assertTrue(expected.remove(removed));
+                } else {
+                    int handle = liveHandles.get(random.nextInt(liveHandles.size()));
+                    Integer current = queue.get(handle);
+                    int lowered = current - random.nextInt(50);
+                    queue.decreaseKey(handle, lowered);
+                    expected.remove(current);
+                    expected.add(lowered);
+                }
+                assertEquals(expected.size(), queue.size());
+                if (!expected.isEmpty()) {
+                    assertEquals(Collections.min(expected), queue.peek());
+                }
+            }
+
+            Collections.sort(expected);
+            for (Integer value : expected) {
+                assertEquals(value, queue.dequeue());
+            }
+        }
+    }
+}
@@ -1,6 +1,11 @@
+import Lists.GrowthPolicy;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class QueueTester {
@@ -119,6 +124,130 @@ public class QueueTester {
         assertEquals(testQueue.InitCapacity * 2, testQueue.getCapacity());
     }
 
+    @Test
+    public void testWrapAroundResize() {
+        testQueue.enqueue(1);
+        testQueue.enqueue(2);
+        testQueue.enqueue(3);
+        testQueue.dequeue();
+        testQueue.dequeue();
+        testQueue.enqueue(4);
+        testQueue.enqueue(5);
+        testQueue.enqueue(6);
+        testQueue.enqueue(7);
+
+        assertArrayEquals(new Integer[]{3, 4, 5, 6, 7}, testQueue.toArray());
+        assertTrue(testQueue.contains(7));
+        for (int i = 3; i <= 7; i++) {
+            assertEquals(i, testQueue.dequeue().intValue());
+        }
+    }
+
+    @Test
+    public void testShrinkingGrowthPolicy() {
+        Queue<Integer> queue = new Queue<>(Integer.class, 4, GrowthPolicy.doubling().withShrink(4));
+        for (int i = 0; i < 1000; i++) {
+            queue.enqueue(i);
+        }
+        assertEquals(1024, queue.getCapacity());
+
+        for (int i = 0; i < 998; i++) {
+            assertEquals(i, queue.dequeue().intValue());
+        }
+        assertEquals(4, queue.getCapacity());
+        assertEquals(998, queue.dequeue().intValue());
+        assertEquals(999, queue.dequeue().intValue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testEnqueueAllAcrossWrapPoint() {
+        testQueue.enqueue(1);
+        testQueue.enqueue(2);
+        testQueue.enqueue(3);
+        testQueue.dequeue();
+        testQueue.dequeue();
+
+        testQueue.enqueueAll(new Integer[]{0, 4, 5, 6, 0}, 1, 3);
+        assertEquals(4, testQueue.getCapacity());
+        assertArrayEquals(new Integer[]{3, 4, 5, 6}, testQueue.toArray());
+
+        testQueue.enqueueAll(new Integer[]{7, 8, 9, 10, 11}, 0, 5);
+        assertEquals(9, testQueue.getCapacity());
+        for (int i = 3; i <= 11; i++) {
+            assertEquals(i, testQueue.dequeue().intValue());
+        }
+        assertTrue(testQueue.isEmpty());
+
+        testQueue.enqueueAll(new Integer[0], 0, 0);
+        assertTrue(testQueue.isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEnqueueAllInvalidRange() {
+        testQueue.enqueueAll(new Integer[]{1, 2}, 1, 2);
+    }
+
+    @Test
+    public void testDrainToArrayAcrossWrapPoint() {
+        for (int i = 0; i < 3; i++) {
+            testQueue.enqueue(i);
+        }
+        testQueue.dequeue();
+        testQueue.enqueue(3);
+        testQueue.enqueue(4);
+
+        Integer[] items = new Integer[3];
+        assertEquals(3, testQueue.drainTo(items, 3));
+        assertArrayEquals(new Integer[]{1, 2, 3}, items);
+        assertEquals(1, testQueue.size());
+
+        items = new Integer[5];
+        assertEquals(1, testQueue.drainTo(items, 5));
+        assertEquals(4, items[0].intValue());
+        assertNull(items[1]);
+        assertTrue(testQueue.isEmpty());
+
+        testQueue.enqueue(5);
+        assertEquals(5, testQueue.dequeue().intValue());
+    }
+
+    @Test
+    public void testDrainToAction() {
+        testQueue.enqueueAll(new Integer[]{1, 2, 3, 4, 5}, 0, 5);
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, testQueue.drainTo(drained::add, 2));
+        assertEquals(Arrays.asList(1, 2), drained);
+
+        assertEquals(4, testQueue.drainTo(item -> {
+            drained.add(item);
+            if (item == 3) {
+                testQueue.enqueue(6);
+            }
+        }, 10));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), drained);
+        assertTrue(testQueue.isEmpty());
+    }
+
+    @Test
+    public void testBulkGrowAndShrink() {
+        Queue<Integer> queue = new Queue<>(Integer.class, 4, GrowthPolicy.doubling().withShrink(4));
+        Integer[] items = new Integer[1000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        queue.enqueueAll(items, 0, items.length);
+        assertEquals(1000, queue.getCapacity());
+
+        Integer[] drained = new Integer[998];
+        assertEquals(998, queue.drainTo(drained, drained.length));
+        assertEquals(997, drained[997].intValue());
+        assertEquals(7, queue.getCapacity());
+        assertEquals(998, queue.dequeue().intValue());
+        assertEquals(999, queue.dequeue().intValue());
+    }
+
     @Before
     public void initQueue() {
         testQueue = new Queue<>(Integer.class);
@@ -0,0 +1,194 @@
+import Lists.SortedArrayList;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class SortedArrayListTester {
+    private SortedArrayList<Integer> testList;
+    public final int SampleSize = 10;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testAddKeepsOrder() {
+        PopulateTestList();
+        assertEquals(SampleSize, testList.size());
+        for (int i = 0; i < SampleSize; i++) {
+            assertEquals(i * 2, testList.get(i).intValue());
+        }
+
+        testList.add(5);
+        testList.add(-1);
+        testList.add(100);
+        assertEquals(-1, testList.first().intValue());
+        assertEquals(5, testList.get(4).intValue());
+        assertEquals(100, testList.last().intValue());
+    }
+
+    @Test
+    public void testBinarySearchLookups() {
+        PopulateTestList();
+        testList.add(6);
+        testList.add(6);
+
+        assertTrue(testList.contains(6));
+        assertFalse(testList.contains(7));
+        assertEquals(3, testList.indexOf(6));
+        assertEquals(5, testList.lastIndexOf(6));
+        assertEquals(-1, testList.indexOf(-5));
+        assertEquals(-1, testList.indexOf(null));
+    }
+
+    @Test
+    public void testRangeQueries() {
+        PopulateTestList();
+        assertEquals(Arrays.asList(0, 2, 4), testList.headList(5));
+        assertEquals(Arrays.asList(14, 16, 18), testList.tailList(14));
+        assertEquals(Arrays.asList(4, 6, 8), testList.between(3, 10));
+        assertTrue(testList.between(7, 7).isEmpty());
+        assertEquals(SampleSize, testList.tailList(-100).size());
+    }
+
+    @Test
+    public void testRangeViewIsFailFast() {
+        PopulateTestList();
+        List<Integer> head = testList.headList(5);
+        testList.add(1);
+
+        exception.expect(ConcurrentModificationException.class);
+        head.get(0);
+    }
+
+    @Test
+    public void testMergeSorted() {
+        PopulateTestList();
+        assertTrue(testList.mergeSorted(Arrays.asList(19, 1, 7, -3, 7)));
+        assertEquals(SampleSize + 5, testList.size());
+
+        Integer previous = null;
+        for (Integer item : testList) {
+            if (previous != null) {
+                assertTrue(previous <= item);
+            }
+            previous = item;
+        }
+        assertEquals(-3, testList.first().intValue());
+        assertEquals(19, testList.last().intValue());
+        assertEquals(2, testList.lastIndexOf(7) - testList.indexOf(7) + 1);
+        assertFalse(testList.mergeSorted(Collections.<Integer>emptyList()));
+    }
+
+    @Test
+    public void testParallelLoad() {
+        List<Integer> items = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < SortedArrayList.ParallelSortThreshold * 4; i++) {
+            items.add(random.nextInt());
+        }
+
+        SortedArrayList<Integer> loaded = new SortedArrayList<>(Integer.class, null, items);
+        Collections.sort(items);
+        assertEquals(items, loaded);
+    }
+
+    @Test
+    public void testComparator() {
+        SortedArrayList<String> list = new SortedArrayList<>(String.class, Comparator.comparing(String::length));
+        list.add("ccc");
+        list.add("a");
+        list.add("bb");
+        assertEquals(Arrays.asList("a", "bb", "ccc"), list);
+        assertTrue(list.contains("zz"));
+    }
+
+    @Test
+    public void testRemove() {
+        PopulateTestList();
+        assertTrue(testList.remove(Integer.valueOf(4)));
+        assertFalse(testList.remove(Integer.valueOf(4)));
+        assertEquals(0, testList.remove(0).intValue());
+        assertTrue(testList.removeAll(Arrays.asList(2, 18)));
+        assertEquals(Arrays.asList(6, 8, 10, 12, 14, 16), testList);
+        assertTrue(testList.retainAll(Arrays.asList(8, 12)));
+        assertEquals(Arrays.asList(8, 12), testList);
+    }
+
+    @Test
+    public void testRemoveAllThrowingContainsKeepsList() {
+        PopulateTestList();
+        Collection<Integer> throwing = new AbstractCollection<Integer>() {
+            private int probes = 0;
+
+            @Override
+            public boolean contains(Object o) {
+                if (++probes == 4) throw new IllegalStateException();
+                return ((Integer) o) % 4 == 0;
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return Collections.emptyIterator();
+            }
+
+            @Override
+            public int size() {
+                return 0;
+            }
+        };
+
+        try {
+            testList.removeAll(throwing);
+            fail("The collection's exception should propagate.");
+        } catch (IllegalStateException expected) {
+            // The elements probed so far stay removed; the rest are kept in order.
+        }
+        assertEquals(Arrays.asList(2, 6, 8, 10, 12, 14, 16, 18), testList);
+    }
+
+    @Test
+    public void testRemoveAllWithLargeList() {
+        PopulateTestList();
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 100; i += 3) {
+            large.add(i);
+        }
+        assertTrue(testList.removeAll(large));
+        assertEquals(Arrays.asList(2, 4, 8, 10, 14, 16), testList);
+    }
+
+    @Test
+    public void testLoadNullCollection() {
+        exception.expect(NullPointerException.class);
+        new SortedArrayList<Integer>(Integer.class, null, null);
+    }
+
+    @Test
+    public void testPositionalInsertUnsupported() {
+        PopulateTestList();
+        exception.expect(UnsupportedOperationException.class);
+        testList.add(0, 100);
+    }
+
+    @Test
+    public void testNullUnsupported() {
+        exception.expect(NullPointerException.class);
+        testList.add(null);
+    }
+
+    @Before
+    public void initList() {
+        testList = new SortedArrayList<>(Integer.class, null);
+    }
+
+    private void PopulateTestList() {
+        for (int i = SampleSize - 1; i >= 0; i--) {
+            testList.add(i * 2);
+        }
+    }
+}
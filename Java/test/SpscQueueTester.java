@@ -0,0 +1,144 @@
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpscQueueTester {
+    private SpscQueue<Integer> testQueue;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void initQueue() {
+        testQueue = new SpscQueue<>(Integer.class, 4);
+    }
+
+    @Test
+    public void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(4, testQueue.getCapacity());
+        assertEquals(1, new SpscQueue<>(Integer.class, 1).getCapacity());
+        assertEquals(8, new SpscQueue<>(Integer.class, 5).getCapacity());
+        assertEquals(1024, new SpscQueue<>(Integer.class, 1000).getCapacity());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        exception.expect(InvalidParameterException.class);
+        new SpscQueue<>(Integer.class, 0);
+    }
+
+    @Test
+    public void testOfferAndPoll() {
+        assertTrue(testQueue.isEmpty());
+        assertNull(testQueue.poll());
+        assertNull(testQueue.peek());
+
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(testQueue.offer(i));
+        }
+        assertFalse(testQueue.offer(5));
+        assertEquals(4, testQueue.size());
+
+        assertEquals(1, testQueue.peek().intValue());
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, testQueue.poll().intValue());
+        }
+        assertNull(testQueue.poll());
+        assertTrue(testQueue.isEmpty());
+    }
+
+    @Test
+    public void testWrapAround() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(testQueue.offer(i));
+            assertTrue(testQueue.offer(i + 1000));
+            assertEquals(i, testQueue.poll().intValue());
+            assertEquals(i + 1000, testQueue.poll().intValue());
+        }
+        assertEquals(0, testQueue.size());
+    }
+
+    @Test
+    public void testDrain() {
+        testQueue.offer(1);
+        testQueue.offer(2);
+        testQueue.offer(3);
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, testQueue.drain(drained::add, 2));
+        assertEquals(Arrays.asList(1, 2), drained);
+        assertEquals(1, testQueue.size());
+
+        assertTrue(testQueue.offer(4));
+        assertTrue(testQueue.offer(5));
+        assertTrue(testQueue.offer(6));
+        assertEquals(4, testQueue.drain(drained::add, 10));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), drained);
+        assertEquals(0, testQueue.drain(drained::add, 10));
+    }
+
+    @Test
+    public void testDrainThrowingConsumerKeepsQueueConsistent() {
+        for (int i = 1; i <= 4; i++) {
+            testQueue.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        try {
+            testQueue.drain(item -> {
+                if (item == 2) throw new IllegalStateException();
+                drained.add(item);
+            }, 10);
+            fail("The consumer's exception should propagate.");
+        } catch (IllegalStateException expected) {
+            // The items handed over so far stay removed.
+        }
+
+        assertEquals(Arrays.asList(1), drained);
+        assertEquals(2, testQueue.size());
+        assertEquals(3, testQueue.poll().intValue());
+        assertEquals(4, testQueue.poll().intValue());
+        assertNull(testQueue.poll());
+    }
+
+    @Test
+    public void testNullRejected() {
+        exception.expect(NullPointerException.class);
+        testQueue.offer(null);
+    }
+
+    @Test
+    public void testProducerConsumer() throws InterruptedException {
+        final int itemCount = 1_000_000;
+        final SpscQueue<Integer> queue = new SpscQueue<>(Integer.class, 64);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < itemCount; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        for (int expected = 0; expected < itemCount; ) {
+            Integer item = queue.poll();
+            if (item == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected++, item.intValue());
+        }
+
+        producer.join();
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,105 @@
+import Lists.TreeList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TreeListTester extends ListTester {
+    public TreeListTester() {
+        super(new TreeList<>(Integer.class));
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                getTreeList().add(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), getTreeList().remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), getTreeList().set(index, -i));
+            }
+        }
+
+        assertEquals(expected, getTreeList());
+        assertTrue(getTreeList().height() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)));
+    }
+
+    @Test
+    public void testHeightStaysLogarithmic() {
+        for (int i = 0; i < 1 << 12; i++) {
+            getTreeList().add(0, i);
+        }
+        assertTrue(getTreeList().height() <= 18);
+
+        for (int i = 0; i < 1 << 11; i++) {
+            getTreeList().remove(getTreeList().size() - 1);
+        }
+        assertEquals(1 << 11, getTreeList().size());
+        assertTrue(getTreeList().height() <= 17);
+    }
+
+    @Test
+    public void testBulkAddAllAtIndex() {
+        PopulateTestList();
+        getTreeList().addAll(5, Arrays.asList(-1, -2, -3, -4, -5, -6));
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, -1, -2, -3, -4, -5, -6, 7, 8, 9, 10, 11), getTreeList());
+
+        getTreeList().addAll(0, Arrays.asList(0));
+        assertEquals(0, getTreeList().get(0).intValue());
+        assertEquals(SampleSize + 7, getTreeList().size());
+    }
+
+    @Test
+    public void testListIteratorBothDirections() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = getTreeList().listIterator(SampleSize);
+        for (int i = SampleSize - 1; i >= 0; i--) {
+            assertEquals(i + 2, iterator.previous().intValue());
+        }
+        assertFalse(iterator.hasPrevious());
+
+        assertEquals(2, iterator.next().intValue());
+        iterator.remove();
+        iterator.add(-1);
+        assertEquals(3, iterator.next().intValue());
+        iterator.set(100);
+        assertEquals(Arrays.asList(-1, 100, 4, 5, 6, 7, 8, 9, 10, 11), getTreeList());
+    }
+
+    @Test
+    public void testRemoveIfRebuilds() {
+        PopulateTestList();
+        assertTrue(getTreeList().removeIf(i -> i % 2 == 0));
+        assertEquals(Arrays.asList(3, 5, 7, 9, 11), getTreeList());
+        assertFalse(getTreeList().removeIf(i -> i > 100));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Integer> subList = getTreeList().subList(2, 6);
+        subList.subList(1, 3).remove(0);
+        assertEquals(Arrays.asList(4, 6, 7), subList);
+
+        getTreeList().add(0, -1);
+        subList.get(0);
+    }
+
+    private TreeList<Integer> getTreeList() {
+        return (TreeList<Integer>) testList;
+    }
+}
@@ -0,0 +1,138 @@
+import Lists.UnrolledLinkedList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.junit.Assert.*;
+
+public class UnrolledLinkedListTester extends ListTester {
+    public UnrolledLinkedListTester() {
+        super(new UnrolledLinkedList<>(Integer.class, 4));
+    }
+
+    @Test
+    public void testGetFirstLast() {
+        assertNull(getUnrolledList().getFirst());
+        assertNull(getUnrolledList().getLast());
+
+        PopulateTestList();
+        assertEquals(2, getUnrolledList().getFirst().intValue());
+        assertEquals(SampleSize + 1, getUnrolledList().getLast().intValue());
+    }
+
+    @Test
+    public void testSplitOnInsert() {
+        PopulateTestList();
+        assertEquals(3, getUnrolledList().nodeCount());
+
+        getUnrolledList().add(1, -1);
+        getUnrolledList().add(1, -2);
+        assertEquals(4, getUnrolledList().nodeCount());
+        assertEquals(Arrays.asList(2, -2, -1, 3, 4, 5, 6, 7, 8, 9, 10, 11), getUnrolledList());
+    }
+
+    @Test
+    public void testMergeOnRemove() {
+        PopulateTestList();
+        getUnrolledList().remove(0);
+        getUnrolledList().remove(0);
+        getUnrolledList().remove(0);
+        assertEquals(Arrays.asList(5, 6, 7, 8, 9, 10, 11), getUnrolledList());
+
+        getUnrolledList().remove(2);
+        getUnrolledList().remove(2);
+        assertEquals(2, getUnrolledList().nodeCount());
+        assertEquals(Arrays.asList(5, 6, 9, 10, 11), getUnrolledList());
+
+        while (getUnrolledList().size() > 1) {
+            getUnrolledList().remove(getUnrolledList().size() - 1);
+        }
+        assertEquals(1, getUnrolledList().nodeCount());
+        assertEquals(5, getUnrolledList().getLast().intValue());
+    }
+
+    @Test
+    public void testRemoveIfCompactsNodes() {
+        for (int i = 0; i < 100; i++) {
+            getUnrolledList().add(i);
+        }
+
+        assertTrue(getUnrolledList().removeIf(item -> item % 10 != 0));
+        assertEquals(Arrays.asList(0, 10, 20, 30, 40, 50, 60, 70, 80, 90), getUnrolledList());
+        assertEquals(3, getUnrolledList().nodeCount());
+        assertEquals(90, getUnrolledList().getLast().intValue());
+    }
+
+    @Test
+    public void testRemoveIfWithoutMatchLeavesPartialNodes() {
+        for (int i = 0; i < 8; i++) {
+            getUnrolledList().add(i);
+        }
+        getUnrolledList().remove(0);
+        getUnrolledList().remove(0);
+        int nodeCount = getUnrolledList().nodeCount();
+
+        assertFalse(getUnrolledList().removeIf(item -> item == 100));
+        assertEquals(nodeCount, getUnrolledList().nodeCount());
+        assertArrayEquals(new Object[]{2, 3, 4, 5, 6, 7}, getUnrolledList().toArray());
+        assertFalse(getUnrolledList().removeAll(Arrays.asList(100, 200)));
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7), getUnrolledList());
+    }
+
+    @Test
+    public void testRemoveIfThrowingFilterLeavesList() {
+        PopulateTestList();
+        try {
+            getUnrolledList().removeIf(item -> {
+                if (item == 8) throw new IllegalStateException();
+                return item % 2 == 0;
+            });
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 10, 11), getUnrolledList());
+    }
+
+    @Test
+    public void testListIteratorBothDirections() {
+        PopulateTestList();
+        ListIterator<Integer> iterator = getUnrolledList().listIterator(5);
+        assertEquals(7, iterator.next().intValue());
+        assertEquals(7, iterator.previous().intValue());
+        assertEquals(6, iterator.previous().intValue());
+
+        iterator.remove();
+        iterator.add(60);
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6, 60, 7, 8, 9, 10, 11).size() - 1, getUnrolledList().size());
+        assertEquals(Arrays.asList(2, 3, 4, 5, 60, 7, 8, 9, 10, 11), getUnrolledList());
+
+        int expected = SampleSize + 1;
+        ListIterator<Integer> reverse = getUnrolledList().listIterator(getUnrolledList().size());
+        while (reverse.hasPrevious()) {
+            int item = reverse.previous();
+            if (item != 60) {
+                assertEquals(expected--, item);
+            } else {
+                expected--;
+            }
+        }
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListFailsAfterParentModification() {
+        PopulateTestList();
+        List<Integer> subList = getUnrolledList().subList(2, 6);
+        subList.subList(1, 3).remove(0);
+        assertEquals(Arrays.asList(4, 6, 7), subList);
+
+        getUnrolledList().add(0, -1);
+        subList.get(0);
+    }
+
+    private UnrolledLinkedList<Integer> getUnrolledList() {
+        return (UnrolledLinkedList<Integer>) testList;
+    }
+}